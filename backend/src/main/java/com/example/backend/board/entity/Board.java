@@ -32,6 +32,11 @@ public class Board {
     @JoinColumn(name = "author")
     private Member author;
 
+    // 좋아요 수 (board_like 기준 비정규화, LikeCounterService가 모아서 반영)
+    // 게시글 수정 시 엔티티 값으로 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer likeCount = 0;
+
 
     // 공개/비공개 추가
 
@@ -9,9 +9,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Integer> {
 
@@ -23,7 +26,7 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
                         b.insertedAt,
             
                         COUNT(DISTINCT c),
-                        COUNT(DISTINCT l),
+                        CAST(b.likeCount AS Long),
                         COUNT(DISTINCT f),
             
                         null,
@@ -32,14 +35,12 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
                         ON b.author.email = m.email
                         LEFT JOIN Comment c
                         ON b.id = c.board.id
-                        LEFT JOIN BoardLike l
-                        ON b.id = l.board.id
                         LEFT JOIN BoardFile f
                         ON b.id = f.board.id
             WHERE b.title LIKE %:keyword%
                OR b.content LIKE %:keyword%
                OR m.nickName LIKE %:keyword%
-            GROUP BY b.id, m.nickName, b.insertedAt, m.id
+            GROUP BY b.id, m.nickName, b.insertedAt, m.id, b.likeCount
             ORDER BY b.id DESC
             """)
     Page<BoardListDto> findAllBy(String keyword, Pageable pageable); // ✅ 이렇게 수정
@@ -49,6 +50,35 @@ public interface BoardRepository extends JpaRepository<Board, Integer> {
     @Query("DELETE FROM Board b WHERE b.author = :author")
     void deleteByAuthor(Member author);
 
+    @Query("SELECT b.likeCount FROM Board b WHERE b.id = :boardId")
+    Optional<Integer> findLikeCountById(@Param("boardId") Integer boardId);
+
+    // 모아 둔 좋아요 수 증감을 한 번에 반영 (LikeCounterService, 증감값이 같은 게시글끼리 묶어서)
+    @Modifying
+    @Query("UPDATE Board b SET b.likeCount = b.likeCount + :delta WHERE b.id IN :boardIds")
+    int addLikeCounts(@Param("boardIds") Collection<Integer> boardIds, @Param("delta") int delta);
+
+    // 회원 탈퇴 전: 그 회원이 누른 좋아요만큼 각 게시글의 좋아요 수 차감
+    @Modifying
+    @Query(value = """
+            UPDATE board b
+                JOIN board_like bl ON bl.board_id = b.id
+                JOIN member m ON bl.member_id = m.id
+            SET b.like_count = b.like_count - 1
+            WHERE m.email = :email
+            """, nativeQuery = true)
+    int subtractLikesByMemberEmail(@Param("email") String email);
+
+    // 보정용: board_like 행 수와 다른 좋아요 수 [boardId, 행 수 - like_count]
+    @Query(value = """
+            SELECT b.id, COUNT(bl.board_id) - b.like_count
+            FROM board b
+                     LEFT JOIN board_like bl ON bl.board_id = b.id
+            GROUP BY b.id, b.like_count
+            HAVING COUNT(bl.board_id) <> b.like_count
+            """, nativeQuery = true)
+    List<Object[]> findLikeCountDrift();
+
     @Query("SELECT DISTINCT b FROM Board b JOIN FETCH b.files f ORDER BY b.insertedAt DESC")
     List<Board> findBoardsWithFilesOrderByInsertedAtDesc();
 }
\ No newline at end of file
@@ -9,7 +9,9 @@ import com.example.backend.board.entity.BoardFileId;
 import com.example.backend.board.repository.BoardFileRepository;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.comment.repository.CommentRepository;
+import com.example.backend.common.SingleFlight;
 import com.example.backend.like.repository.BoardLikeRepository;
+import com.example.backend.like.service.LikeCounterService;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.entity.MemberFile;
 import com.example.backend.member.repository.MemberFileRepository;
@@ -20,7 +22,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -32,6 +39,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,6 +54,13 @@ public class BoardService {
     private final CommentRepository commentRepository;
     private final S3Client s3Client;
     private final MemberFileRepository memberFileRepository;
+    private final LikeCounterService likeCounterService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 목록 첫 페이지/메인 화면 최신글처럼 같은 조회가 동시에 몰리는 경우 진행 중인 조회를 함께 쓴다
+    // 게시글 등록/수정/삭제가 커밋되면 invalidate() - 그 뒤에 들어온 요청은 커밋 전에 시작된 조회에 합류하지 않는다
+    private final SingleFlight<String, Map<String, Object>> boardListQueries = new SingleFlight<>();
+    private final SingleFlight<String, List<Map<String, Object>>> latestImageQueries = new SingleFlight<>();
 
     @Value("${image.prefix}")
     private String imagePrefix;
@@ -86,6 +101,7 @@ public class BoardService {
                 .map(Authentication::getName)
                 .orElseThrow(() -> new RuntimeException("권한이 없습니다."));
 
+        invalidateListsAfterCommit();
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
 
@@ -124,6 +140,7 @@ public class BoardService {
     // 게시글 수정 및 파일 처리
     public void updateWithFiles(Integer id, BoardAddForm dto, List<String> deleteFileNames, Authentication authentication) {
         String email = authentication.getName();
+        invalidateListsAfterCommit();
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("해당 게시물이 없습니다."));
 
@@ -171,6 +188,7 @@ public class BoardService {
         if (!board.getAuthor().getEmail().equals(email)) {
             throw new RuntimeException("본인만 삭제할 수 있습니다.");
         }
+        invalidateListsAfterCommit();
 
         // 댓글, 좋아요 삭제
         commentRepository.deleteByBoardId(id);
@@ -195,7 +213,38 @@ public class BoardService {
     }
 
     // 게시글 리스트 조회 + 페이징
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> list(String keyword, Integer pageNumber) {
+        return coalesce(boardListQueries, pageNumber + ":" + (keyword == null ? "" : keyword),
+                () -> loadList(keyword, pageNumber));
+    }
+
+    // 합쳐지는 목록 조회: 기다리는 요청은 트랜잭션(커넥션) 없이 기다리고, 실제로 조회하는 요청만 읽기 전용 트랜잭션을 연다
+    private <T> T coalesce(SingleFlight<String, T> queries, String key, Supplier<T> loader) {
+        return queries.run(key, () -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> loader.get());
+        });
+    }
+
+    // 게시글 쓰기 트랜잭션 안에서 호출
+    private void invalidateListsAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boardListQueries.invalidate();
+            latestImageQueries.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boardListQueries.invalidate();
+                latestImageQueries.invalidate();
+            }
+        });
+    }
+
+    private Map<String, Object> loadList(String keyword, Integer pageNumber) {
         Page<BoardListDto> boardListDtoPage = boardRepository.findAllBy(keyword, PageRequest.of(pageNumber - 1, 10));
 
         // N+1 문제 해결을 위한 최적화
@@ -232,6 +281,7 @@ public class BoardService {
             String profileImageUrl = memberProfileImageMap.get(boardDto.getMemberId());
             boardDto.setProfileImageUrl(profileImageUrl);
         });
+        applyPendingLikes(boardListDtoPage.getContent());
 
 
         int totalPages = boardListDtoPage.getTotalPages();
@@ -283,10 +333,22 @@ public class BoardService {
 
     // 최신 3개 게시글 조회
     public List<BoardListDto> getLatestThree() {
-        return boardRepository.findAllBy("", PageRequest.of(0, 3)).getContent();
+        List<BoardListDto> boards = boardRepository.findAllBy("", PageRequest.of(0, 3)).getContent();
+        applyPendingLikes(boards);
+        return boards;
     }
 
+    // 목록의 좋아요 수 = board.like_count + 아직 반영 안 된 증감
+    private void applyPendingLikes(List<BoardListDto> boards) {
+        boards.forEach(dto -> dto.setCountLike(likeCounterService.getBoardLikeCount(dto.getId(), dto.getCountLike())));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Map<String, Object>> getLatestThreeWithFirstImage() {
+        return coalesce(latestImageQueries, "latest3", this::loadLatestThreeWithFirstImage);
+    }
+
+    private List<Map<String, Object>> loadLatestThreeWithFirstImage() {
         // 이미지가 있는 게시글들을 최신순으로 정렬해서 가져온 후, 3개만 선택
         List<Board> allBoardsWithFiles = boardRepository.findBoardsWithFilesOrderByInsertedAtDesc();
 
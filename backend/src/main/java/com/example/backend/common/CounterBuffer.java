@@ -0,0 +1,71 @@
+package com.example.backend.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 키별 증감값을 메모리에 모아 두었다가 주기적으로 한꺼번에 반영하기 위한 누적기
+// 키마다 LongAdder를 두어 같은 키(인기 글 등)에 동시에 더해도 한 값을 두고 경합하지 않는다.
+// drain()은 그때까지 쌓인 값을 꺼내고 0으로 돌린다. 꺼내는 도중에 더해진 값은 다음 drain()에 포함된다. (유실/중복 없음)
+public class CounterBuffer<K> {
+
+    private final ConcurrentHashMap<K, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        LongAdder adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        adder.add(delta);
+        // 그 사이 drain()이 이 누적기를 치웠다면 떨어져 나간 누적기에 더한 값을 현재 누적기로 옮긴다
+        if (pending.get(key) != adder) {
+            moveDetached(key, adder);
+        }
+    }
+
+    // 아직 반영되지 않은 값 (없으면 0)
+    public long get(K key) {
+        LongAdder adder = pending.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        for (Map.Entry<K, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long value = adder.sumThenReset();
+            if (value != 0) {
+                drained.put(entry.getKey(), value);
+            } else if (pending.remove(entry.getKey(), adder)) {
+                // 지난 주기 동안 변화가 없던 키는 치운다 (치우는 사이 더해진 값은 옮김)
+                moveDetached(entry.getKey(), adder);
+            }
+        }
+        return drained;
+    }
+
+    // 아직 반영되지 않은 값 전체 (0인 키 제외, 꺼내지 않음)
+    public Map<K, Long> snapshot() {
+        Map<K, Long> values = new HashMap<>();
+        pending.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value != 0) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    // 셀 단위로 꺼내고 0으로 돌리므로 add()와 drain()이 동시에 옮겨도 한 번만 옮겨진다
+    private void moveDetached(K key, LongAdder detached) {
+        long rest = detached.sumThenReset();
+        if (rest != 0) {
+            add(key, rest);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.backend.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 같은 키의 동시 요청을 하나의 계산으로 합치는 도우미
+// 키마다 진행 중인 계산을 하나만 두고, 그 사이에 들어온 같은 요청은 새로 계산하지 않고 결과를 기다렸다 함께 받는다.
+// 계산이 끝나면 바로 빠지므로 결과를 보관하지는 않는다. (캐시가 아님 - 끝난 뒤의 요청은 다시 계산)
+// 예외도 기다리던 요청 모두에게 그대로 전달된다.
+// invalidate() 이후에 들어온 요청은 그 전에 시작된 계산에 합류하지 않는다. (쓰기 커밋 뒤 호출해서 자기 쓰기가 반영된 결과를 받도록)
+public class SingleFlight<K, V> {
+
+    private record Flight<K>(K key, long generation) {
+    }
+
+    private final ConcurrentHashMap<Flight<K>, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong shared = new AtomicLong();
+
+    public V run(K key, Supplier<V> loader) {
+        Flight<K> flight = new Flight<>(key, generation.get());
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(flight, created);
+        if (running != null) {
+            shared.incrementAndGet();
+            return await(running);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, created);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        return Map.of(
+                "inFlight", inFlight.size(),
+                "executions", executions.get(),
+                "shared", shared.get()
+        );
+    }
+}
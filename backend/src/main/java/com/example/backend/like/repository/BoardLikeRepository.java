@@ -6,6 +6,7 @@ import com.example.backend.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -15,6 +16,16 @@ public interface BoardLikeRepository extends JpaRepository<BoardLike, BoardLikeI
 
     Long countByBoardId(Integer boardId);
 
+    // 좋아요 추가 - 이미 있으면 무시하고 0을 돌려준다 (실제로 추가했을 때만 좋아요 수를 올리도록)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO board_like (board_id, member_id) VALUES (:boardId, :memberId)", nativeQuery = true)
+    int insertIgnore(@Param("boardId") Integer boardId, @Param("memberId") Long memberId);
+
+    // 좋아요 취소 - 지운 행 수를 돌려줘서 실제로 지웠을 때만 좋아요 수를 차감한다
+    @Modifying
+    @Query("delete from BoardLike bl where bl.board.id = :boardId and bl.member.id = :memberId")
+    int deleteByBoardIdAndMemberId(@Param("boardId") Integer boardId, @Param("memberId") Long memberId);
+
     @Transactional
     @Modifying
     @Query("delete from BoardLike bl where bl.board.id = :boardId")
@@ -0,0 +1,208 @@
+package com.example.backend.like.service;
+
+import com.example.backend.board.repository.BoardRepository;
+import com.example.backend.common.CounterBuffer;
+import com.example.backend.review.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+// 리뷰/게시글 좋아요 수 (review.like_count, board.like_count) 지연 반영
+// 좋아요 추가/취소(review_like, board_like 행)는 요청 트랜잭션에서 바로 반영하고,
+// 좋아요 수 증감은 커밋 뒤 메모리에 모았다가 주기적으로 같은 증감값끼리 묶어 한 번에 UPDATE 한다.
+// → 인기 글에 좋아요가 몰려도 같은 행을 두고 요청마다 잠금 경합하지 않음
+// 화면에 보이는 좋아요 수 = DB 값 + 아직 반영 안 된 값.
+// 종료 시에는 요청이 모두 끝난 뒤(server.shutdown=graceful) 남은 값을 반영하고, 실패하면 몇 번 더 시도한다.
+// 그래도 못 남긴 값이나 비정상 종료로 잃은 값은 매일 좋아요 행(review_like, board_like) 기준 보정으로 바로잡는다.
+// 좋아요 트랜잭션은 커밋 직전부터 버퍼에 쌓을 때까지 commitLock(읽기)을 잡는다.
+// 보정은 commitLock(쓰기)을 잡은 채로 스냅샷 시점을 정하므로 "커밋은 됐는데 아직 버퍼에 없는" 좋아요가 없다.
+@Slf4j
+@Service
+public class LikeCounterService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int SHUTDOWN_FLUSH_ATTEMPTS = 3;
+    private static final long SHUTDOWN_RETRY_DELAY_MS = 500;
+
+    private final ReviewRepository reviewRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+
+    private final CounterBuffer<Integer> reviewLikes = new CounterBuffer<>();
+    private final CounterBuffer<Integer> boardLikes = new CounterBuffer<>();
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    public LikeCounterService(ReviewRepository reviewRepository,
+                              BoardRepository boardRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.boardRepository = boardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 보정 읽기: 한 스냅샷에서 리뷰/게시글을 모두 읽는다 (InnoDB는 첫 읽기 시점에 스냅샷을 잡음)
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTemplate.setReadOnly(true);
+    }
+
+    // 좋아요 행을 바꾼 트랜잭션 안에서 호출 (롤백되면 반영하지 않도록 커밋 이후에 쌓는다)
+    public void reviewLikeChanged(Integer reviewId, int delta) {
+        afterCommit(() -> reviewLikes.add(reviewId, delta));
+    }
+
+    public void boardLikeChanged(Integer boardId, int delta) {
+        afterCommit(() -> boardLikes.add(boardId, delta));
+    }
+
+    public long getReviewLikeCount(Integer reviewId, long stored) {
+        return stored + reviewLikes.get(reviewId);
+    }
+
+    public long getBoardLikeCount(Integer boardId, long stored) {
+        return stored + boardLikes.get(boardId);
+    }
+
+    // 커밋 직전에 commitLock(읽기)을 잡고, 버퍼에 쌓은 뒤 트랜잭션이 끝나면 놓는다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitLock.readLock().lock();
+            try {
+                action.run();
+            } finally {
+                commitLock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitLock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    locked = false;
+                    commitLock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${like.counter.flush-delay-ms:1000}")
+    public synchronized void flush() {
+        flush(reviewLikes, reviewRepository::addLikeCounts, "리뷰");
+        flush(boardLikes, boardRepository::addLikeCounts, "게시글");
+    }
+
+    // 종료 직전 마지막 반영 (실패하면 버퍼째 사라지므로 잠시 쉬었다가 다시 시도)
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        for (int attempt = 1; attempt <= SHUTDOWN_FLUSH_ATTEMPTS; attempt++) {
+            flush();
+            if (reviewLikes.snapshot().isEmpty() && boardLikes.snapshot().isEmpty()) {
+                return;
+            }
+            if (attempt < SHUTDOWN_FLUSH_ATTEMPTS) {
+                try {
+                    Thread.sleep(SHUTDOWN_RETRY_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.error("종료 전 좋아요 수 반영 실패 - 리뷰 {}, 게시글 {} (다음 보정 때 바로잡힘)",
+                reviewLikes.snapshot(), boardLikes.snapshot());
+    }
+
+    // 좋아요 수를 좋아요 행 수에 맞춰 보정
+    // 1. commitLock(쓰기)을 잡고 스냅샷 시점을 정한 뒤 버퍼를 비운다. 이때 비운 증감은 모두 스냅샷 안의 좋아요 행에 포함된다.
+    // 2. 잠금을 놓고 스냅샷에서 (행 수 - like_count) 차이를 읽는다. 이후 좋아요는 평소처럼 버퍼에 쌓였다가 보정 뒤에 반영된다.
+    // 3. 차이를 덮어쓰지 않고 증감으로 더하므로 스냅샷 이후 다른 곳에서 바뀐 값(회원 탈퇴 차감 등)도 유지된다.
+    // flush()와 같은 잠금(synchronized)이라 보정 중에는 버퍼가 따로 반영되지 않는다.
+    @Scheduled(cron = "${like.counter.reconcile-cron:0 15 5 * * *}", zone = "Asia/Seoul")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        Map<Integer, Long> drainedReviews = new HashMap<>();
+        Map<Integer, Long> drainedBoards = new HashMap<>();
+        try {
+            List<Map<Integer, Long>> drift = snapshotTemplate.execute(status -> {
+                commitLock.writeLock().lock();
+                try {
+                    reviewRepository.findLikeCountById(0); // 스냅샷 시점 고정용 읽기
+                    drainedReviews.putAll(reviewLikes.drain());
+                    drainedBoards.putAll(boardLikes.drain());
+                } finally {
+                    commitLock.writeLock().unlock();
+                }
+                return List.of(toDeltas(reviewRepository.findLikeCountDrift()),
+                        toDeltas(boardRepository.findLikeCountDrift()));
+            });
+            transactionTemplate.executeWithoutResult(status -> {
+                addGrouped(drift.get(0), reviewRepository::addLikeCounts);
+                addGrouped(drift.get(1), boardRepository::addLikeCounts);
+            });
+            log.info("좋아요 수 보정 - 리뷰 {}건, 게시글 {}건, {}ms",
+                    drift.get(0).size(), drift.get(1).size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 보정이 반영되지 않았으면 비운 증감은 아직 DB에 없으므로 되돌려 놓는다
+            drainedReviews.forEach(reviewLikes::add);
+            drainedBoards.forEach(boardLikes::add);
+            log.warn("좋아요 수 보정 실패 - 다음 보정 때 다시 시도", e);
+        }
+    }
+
+    // [id, 차이] 행 -> id별 증감
+    private static Map<Integer, Long> toDeltas(List<Object[]> rows) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        for (Object[] row : rows) {
+            deltas.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return deltas;
+    }
+
+    // 대부분 +1/-1 이므로 증감값이 같은 id끼리 묶으면 UPDATE 몇 번으로 끝난다 (호출하는 쪽 트랜잭션 안에서)
+    private static void addGrouped(Map<Integer, Long> deltas, BiConsumer<List<Integer>, Integer> update) {
+        Map<Integer, List<Integer>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta.intValue(), d -> new ArrayList<>()).add(id));
+        idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+                update.accept(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())), delta);
+            }
+        });
+    }
+
+    private void flush(CounterBuffer<Integer> buffer, BiConsumer<List<Integer>, Integer> update, String target) {
+        Map<Integer, Long> drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> addGrouped(drained, update));
+            log.debug("{} 좋아요 수 반영 - {}건", target, drained.size());
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 되돌려 놓는다
+            drained.forEach(buffer::add);
+            log.warn("{} 좋아요 수 반영 실패 - {}건, 다음 주기에 재시도", target, drained.size(), e);
+        }
+    }
+}
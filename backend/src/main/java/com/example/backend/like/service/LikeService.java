@@ -3,8 +3,6 @@ package com.example.backend.like.service;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.like.dto.BoardLikeDto;
 import com.example.backend.like.dto.LikeForm;
-import com.example.backend.like.entity.BoardLike;
-import com.example.backend.like.entity.BoardLikeId;
 import com.example.backend.like.repository.BoardLikeRepository;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +18,7 @@ public class LikeService {
     private final BoardLikeRepository boardLikeRepository;
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
+    private final LikeCounterService likeCounterService;
 
     public void update(LikeForm likeForm, Authentication authentication) {
         if (authentication == null) {
@@ -29,31 +28,23 @@ public class LikeService {
         String email = authentication.getName();
         Integer boardId = likeForm.getBoardId();
 
-        var boardLike = boardLikeRepository.findByBoardIdAndMemberEmail(boardId, email);
-
-        if (boardLike.isPresent()) {
-            boardLikeRepository.delete(boardLike.get());
-        } else {
-            var board = boardRepository.findById(boardId)
-                    .orElseThrow(() -> new RuntimeException("게시물 없음"));
-            var member = memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("회원 없음"));
-
-            BoardLikeId boardLikeId = new BoardLikeId();
-            boardLikeId.setBoardId(boardId);
-//            boardLikeId.setMemberId(member.getId()); // 이건 없어도 동작이 일단 하는디 왜 있지
-
-            BoardLike newLike = new BoardLike();
-            newLike.setId(boardLikeId);
-            newLike.setBoard(board);
-            newLike.setMember(member);
+        var member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("회원 없음"));
+        if (!boardRepository.existsById(boardId)) {
+            throw new RuntimeException("게시물 없음");
+        }
 
-            boardLikeRepository.save(newLike);
+        // 좋아요 행은 바로 추가/삭제하고, 좋아요 수는 실제로 바뀐 경우에만 LikeCounterService에 맡긴다
+        if (boardLikeRepository.deleteByBoardIdAndMemberId(boardId, member.getId()) > 0) {
+            likeCounterService.boardLikeChanged(boardId, -1);
+        } else if (boardLikeRepository.insertIgnore(boardId, member.getId()) > 0) {
+            likeCounterService.boardLikeChanged(boardId, 1);
         }
     }
 
     public BoardLikeDto get(Integer boardId, Authentication authentication) {
-        Long count = boardLikeRepository.countByBoardId(boardId);
+        Long count = likeCounterService.getBoardLikeCount(boardId,
+                boardRepository.findLikeCountById(boardId).orElse(0));
         boolean liked = false;
         if (authentication != null) {
             var row = boardLikeRepository
@@ -12,4 +12,8 @@ import java.util.List;
 public interface MemberFileRepository extends JpaRepository<MemberFile, MemberFileId> {
     @Query("SELECT mf FROM MemberFile mf WHERE mf.member.id IN :memberIds ORDER BY mf.id.name ASC")
     List<MemberFile> findByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    // 엔티티(회원까지 즉시 로딩됨) 없이 파일명만 [memberId, name]
+    @Query("SELECT mf.id.memberId, mf.id.name FROM MemberFile mf WHERE mf.id.memberId IN :memberIds ORDER BY mf.id.name ASC")
+    List<Object[]> findNamesByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
 }
\ No newline at end of file
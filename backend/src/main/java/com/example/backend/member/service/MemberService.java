@@ -11,6 +11,8 @@ import com.example.backend.member.entity.MemberFile;
 import com.example.backend.member.entity.MemberFileId;
 import com.example.backend.member.repository.MemberFileRepository;
 import com.example.backend.member.repository.MemberRepository;
+import com.example.backend.petFacility.service.FacilityStatsService;
+import com.example.backend.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -59,6 +61,8 @@ public class MemberService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final BoardLikeRepository boardLikeRepository;
+    private final ReviewRepository reviewRepository;
+    private final FacilityStatsService facilityStatsService;
     private final S3Client s3Client;
 
     // 외부 로그인 사용자 탈퇴시 임시코드를 위해
@@ -255,8 +259,12 @@ public class MemberService {
         commentRepository.deleteByAuthor(member);
 
         // 좋아요 삭제 (게시물 삭제 전에 좋아요를 먼저 삭제해야 합니다.)
+        boardRepository.subtractLikesByMemberEmail(member.getEmail()); // 지우기 전에 각 게시글 좋아요 수에서 차감
         boardLikeRepository.deleteByMemberEmail(member.getEmail());  // 수정된 부분
 
+        // 리뷰 좋아요는 FK cascade로 지워지므로 미리 각 리뷰의 좋아요 수에서 빼 둔다
+        reviewRepository.subtractLikesByMemberEmail(member.getEmail());
+
         // 게시물 삭제
         boardRepository.deleteByAuthor(member);
 
@@ -267,6 +275,9 @@ public class MemberService {
             memberFileRepository.delete(file);
         }
 
+        // 회원이 쓴 리뷰는 FK cascade로 지워지므로 시설 평점 집계에서 미리 차감
+        facilityStatsService.memberRemoved(member.getEmail());
+
         // 회원 삭제
         memberRepository.delete(member);
     }
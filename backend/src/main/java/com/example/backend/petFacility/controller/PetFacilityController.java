@@ -1,19 +1,60 @@
 package com.example.backend.petFacility.controller;
 
+import com.example.backend.common.SingleFlight;
+import com.example.backend.petFacility.dto.FacilityClusterDto;
+import com.example.backend.petFacility.dto.FacilityCursorPageDto;
+import com.example.backend.petFacility.dto.FacilityDetailDto;
+import com.example.backend.petFacility.dto.FacilityFacetResultDto;
+import com.example.backend.petFacility.dto.FacilityImportResultDto;
+import com.example.backend.petFacility.dto.FacilitySyncResultDto;
+import com.example.backend.petFacility.dto.FacilityViewportDiffDto;
+import com.example.backend.petFacility.dto.NearbyFacilityDto;
 import com.example.backend.petFacility.dto.PetFacilitySearchDto;
 import com.example.backend.petFacility.dto.PetFacilitySimpleDto;
+import com.example.backend.petFacility.dto.PetSizeKeywordsDto;
+import com.example.backend.petFacility.index.FacilityCursor;
+import com.example.backend.petFacility.index.FacilityFilter;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import com.example.backend.petFacility.index.FacilityViewport;
+import com.example.backend.petFacility.index.MarkerFrameEncoder;
+import com.example.backend.petFacility.index.PetSizeClassifier;
 import com.example.backend.petFacility.repository.PetFacilityRepository;
 import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.service.FacilityDetailService;
+import com.example.backend.petFacility.service.FacilityExportService;
+import com.example.backend.petFacility.service.FacilityImportService;
+import com.example.backend.petFacility.service.FacilitySearchCacheService;
+import com.example.backend.petFacility.service.FacilityStatsService;
+import com.example.backend.petFacility.service.FacilityTileService;
+import com.example.backend.petFacility.service.PetFacilityIndexService;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -22,29 +63,37 @@ import java.util.stream.Collectors;
 public class PetFacilityController {
 
     private final PetFacilityRepository petFacilityRepository;
+    private final PetFacilityIndexService petFacilityIndexService;
+    private final FacilityTileService facilityTileService;
+    private final FacilityExportService facilityExportService;
+    private final FacilityImportService facilityImportService;
+    private final FacilitySearchCacheService facilitySearchCacheService;
+    private final FacilityDetailService facilityDetailService;
+    private final FacilityStatsService facilityStatsService;
+
+    // 지도 이동 시 같은 화면 범위 요청이 몰리면 한 번만 계산 (같은 지역 링크로 여러 사용자가 들어오는 경우 등)
+    private final SingleFlight<BoundsQuery, List<PetFacilitySearchDto>> boundsQueries = new SingleFlight<>();
 
     // 통일된 4가지 카테고리 목록
-    private static final Set<String> SIMPLIFIED_PET_SIZES = Set.of("모두가능", "개", "고양이", "기타");
-
-    // "기타" 카테고리에 포함될 명시적인 키워드 목록
-    private static final Set<String> OTHER_PET_KEYWORDS = Set.of(
-            "파충류", "특수동물", "새", "물고기", "토끼", "고슴도치", "햄스터", "기니피그",
-            "말", "소", "염소", "설치류", "어류", "앵무새", "해양동물", "가금류",
-            "하늘다람쥐", "거북이", "도마뱀", "뱀", "페릿", "포유류"
-    );
-
-    // 개 카테고리에 해당하는 모든 키워드
-    private static final Set<String> DOG_KEYWORDS = Set.of(
-            "개", "kg", "소형", "중형", "대형", "특수견", "주말", "평일", "이하", "공휴일"
-    );
-
-    // 모두가능 카테고리에 해당하는 키워드
-    private static final Set<String> ALL_AVAILABLE_KEYWORDS = Set.of(
-            "해당없음", "모두 가능"
-    );
-
-    public PetFacilityController(PetFacilityRepository petFacilityRepository) {
+    private static final Set<String> SIMPLIFIED_PET_SIZES = PetSizeClassifier.CATEGORY_BITS.keySet();
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    public PetFacilityController(PetFacilityRepository petFacilityRepository,
+                                 PetFacilityIndexService petFacilityIndexService,
+                                 FacilityTileService facilityTileService,
+                                 FacilityExportService facilityExportService,
+                                 FacilityImportService facilityImportService,
+                                 FacilitySearchCacheService facilitySearchCacheService,
+                                 FacilityDetailService facilityDetailService,
+                                 FacilityStatsService facilityStatsService) {
         this.petFacilityRepository = petFacilityRepository;
+        this.petFacilityIndexService = petFacilityIndexService;
+        this.facilityTileService = facilityTileService;
+        this.facilityExportService = facilityExportService;
+        this.facilityImportService = facilityImportService;
+        this.facilitySearchCacheService = facilitySearchCacheService;
+        this.facilityDetailService = facilityDetailService;
+        this.facilityStatsService = facilityStatsService;
     }
 
     // 통합검색엔드포인트 (검색어 파라미터 추가)
@@ -58,54 +107,160 @@ public class PetFacilityController {
             @RequestParam(required = false) String parkingAvailable,
             @RequestParam(required = false) String indoorFacility,
             @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt, // 이 시각에 영업 중인 시설만 (예: 2025-07-01T14:30, now)
+            @RequestParam(required = false) Double minRating, // 평균 평점 하한 (정렬은 sort=rating,desc로 평점순)
             @PageableDefault(size = 15, sort = "name", direction = Sort.Direction.ASC) Pageable pageable
     ) {
-        if (category2 != null && category2.isEmpty()) category2 = null;
+        // 펫 사이즈는 시설을 읽을 때 미리 분류해 둔 비트마스크로 비교
+        Integer petSizeMask = toPetSizeMask(allowedPetSize);
+        LocalDateTime openAtTime = parseOpenAt(openAt);
+        minRating = normalizeMinRating(minRating);
+
+        // 영업시간/평점은 인메모리 인덱스에만 있어서 DB 정렬 경로에서는 지원하지 않음
+        if ((openAtTime != null || minRating != null) && !petFacilityIndexService.supportsSort(pageable.getSort())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "openAt, minRating은 이름순/관련도순/평점순 정렬에서만 사용할 수 있습니다.");
+        }
 
-        Set<String> originalPetSizesToSearch = null;
-        if (allowedPetSize != null && !allowedPetSize.isEmpty()) {
-            originalPetSizesToSearch = mapToOriginalPetSizes(allowedPetSize);
+        // 같은 조건(정규화 후)의 반복 검색은 결과 캐시에서 (영업시간 조건은 시각마다 달라서 제외)
+        FacilitySearchCacheService.SearchKey key = FacilitySearchCacheService.SearchKey.of(
+                searchQuery, sidoName, sigunguName, category2, petSizeMask,
+                parkingAvailable, indoorFacility, outdoorFacility, minRating, pageable);
+        if (openAtTime != null) {
+            return searchFacilities(key, openAtTime, pageable);
         }
+        return facilitySearchCacheService.get(key, () -> searchFacilities(key, null, pageable));
+    }
 
-        // 검색어 처리 - null 이거나 빈 문자열인 경우 null로 설정
-        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
-                ? searchQuery.trim() : null;
+    private Page<PetFacilitySearchDto> searchFacilities(FacilitySearchCacheService.SearchKey key,
+                                                        LocalDateTime openAt, Pageable pageable) {
+        Set<String> category2 = key.category2() == null ? null : new HashSet<>(key.category2());
+
+        // 이름순/관련도순/평점순은 인메모리 인덱스로 처리 (필터: 패싯 비트맵, 검색어: 바이그램 역색인)
+        if (petFacilityIndexService.supportsSort(pageable.getSort())) {
+            FacilityFilter filter = FacilityFilter.builder()
+                    .sidoName(key.sidoName())
+                    .sigunguName(key.sigunguName())
+                    .category2(category2)
+                    .petSizeMask(key.petSizeMask())
+                    .parkingAvailable(key.parkingAvailable())
+                    .indoorFacility(key.indoorFacility())
+                    .outdoorFacility(key.outdoorFacility())
+                    .openAt(openAt)
+                    .minRating(key.minRating())
+                    .build();
+            return petFacilityIndexService.search(key.searchQuery(), filter, pageable)
+                    .map(this::toSearchDto);
+        }
 
         Page<PetFacility> facilityPage = petFacilityRepository.findFacilitiesByFilters(
-                processedSearchQuery, // 검색어 추가
-                sidoName,
-                sigunguName,
+                key.searchQuery(), // 검색어 추가
+                key.sidoName(),
+                key.sigunguName(),
                 category2,
-                originalPetSizesToSearch,
-                parkingAvailable,
-                indoorFacility,
-                outdoorFacility,
+                key.petSizeMask() == null ? null
+                        : petFacilityIndexService.getSnapshot().petSizeValuesMatching(key.petSizeMask()),
+                key.parkingAvailable(),
+                key.indoorFacility(),
+                key.outdoorFacility(),
                 pageable
         );
 
-        return facilityPage.map(facility -> new PetFacilitySearchDto(
-                facility.getId(),
-                facility.getName(),
-                facility.getLatitude(),
-                facility.getLongitude(),
-                facility.getCategory2(),
-                facility.getRoadAddress(),
-                facility.getCategory3(),
-                facility.getSidoName(),
-                facility.getSigunguName(),
-                facility.getRoadName(),
-                facility.getBunji(),
-                facility.getJibunAddress(),
-                facility.getPhoneNumber(),
-                facility.getHoliday(),
-                facility.getOperatingHours(),
-                facility.getParkingAvailable(),
-                facility.getPetFriendlyInfo(),
-                facility.getAllowedPetSize(),
-                facility.getPetRestrictions(),
-                facility.getIndoorFacility(),
-                facility.getOutdoorFacility()
-        ));
+        return facilityPage.map(this::toSearchDto);
+    }
+
+    // 통합검색/지도 응답용: 메모리 평점 집계를 함께 담는다 (추가 쿼리 없음)
+    private PetFacilitySearchDto toSearchDto(PetFacility facility) {
+        return PetFacilitySearchDto.fromEntity(facility, facilityStatsService.getRating(facility.getId()));
+    }
+
+    // 0 이하는 "조건 없음" (리뷰 없는 시설도 포함)으로 본다
+    private static Double normalizeMinRating(Double minRating) {
+        if (minRating != null && (minRating < 0 || minRating > 5)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minRating은 0~5 사이여야 합니다.");
+        }
+        return minRating == null || minRating <= 0 ? null : minRating;
+    }
+
+    // 통합검색 무한 스크롤용 (이름순 키셋 페이지네이션)
+    // after에 이전 응답의 nextCursor를 넘기면 그 다음부터 size개를 반환한다. 전체 건수는 withTotal=true일 때만 계산.
+    @GetMapping("/search/cursor")
+    public FacilityCursorPageDto searchPetFacilitiesByCursor(
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String sidoName,
+            @RequestParam(required = false) String sigunguName,
+            @RequestParam(required = false) Set<String> category2,
+            @RequestParam(required = false) Set<String> allowedPetSize,
+            @RequestParam(required = false) String parkingAvailable,
+            @RequestParam(required = false) String indoorFacility,
+            @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        if (category2 != null && category2.isEmpty()) category2 = null;
+        minRating = normalizeMinRating(minRating);
+
+        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
+                ? searchQuery.trim() : null;
+
+        FacilityCursor cursor = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                cursor = FacilityCursor.decode(after);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+
+        FacilityFilter filter = FacilityFilter.builder()
+                .sidoName(sidoName)
+                .sigunguName(sigunguName)
+                .category2(category2)
+                .petSizeMask(toPetSizeMask(allowedPetSize))
+                .parkingAvailable(parkingAvailable)
+                .indoorFacility(indoorFacility)
+                .outdoorFacility(outdoorFacility)
+                .openAt(parseOpenAt(openAt))
+                .minRating(minRating)
+                .build();
+        return petFacilityIndexService.scroll(processedSearchQuery, filter, cursor,
+                Math.max(1, Math.min(size, 100)), withTotal);
+    }
+
+    // 통합검색 조건에 맞는 시설 id + 필터 항목별 결과 수
+    // 각 항목의 수는 그 항목 조건만 뺀 나머지 조건 기준이라, 화면에서 다른 값을 골랐을 때의 결과 수로 바로 쓸 수 있다.
+    @GetMapping("/search/facets")
+    public FacilityFacetResultDto getSearchFacets(
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String sidoName,
+            @RequestParam(required = false) String sigunguName,
+            @RequestParam(required = false) Set<String> category2,
+            @RequestParam(required = false) Set<String> allowedPetSize,
+            @RequestParam(required = false) String parkingAvailable,
+            @RequestParam(required = false) String indoorFacility,
+            @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        if (category2 != null && category2.isEmpty()) category2 = null;
+
+        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
+                ? searchQuery.trim() : null;
+
+        FacilityFilter filter = FacilityFilter.builder()
+                .sidoName(sidoName)
+                .sigunguName(sigunguName)
+                .category2(category2)
+                .petSizeMask(toPetSizeMask(allowedPetSize))
+                .parkingAvailable(parkingAvailable)
+                .indoorFacility(indoorFacility)
+                .outdoorFacility(outdoorFacility)
+                .openAt(parseOpenAt(openAt))
+                .build();
+        return petFacilityIndexService.facets(processedSearchQuery, filter, Math.max(0, Math.min(limit, 10000)));
     }
 
     // 간단한 검색 제안 엔드포인트
@@ -118,9 +273,10 @@ public class PetFacilityController {
             return List.of();
         }
 
-        List<PetFacility> suggestions = petFacilityRepository.findSearchSuggestions(
+        // 키 입력마다 호출되므로 LIKE 쿼리 대신 인메모리 접두어 인덱스 사용
+        List<PetFacility> suggestions = petFacilityIndexService.suggest(
                 query.trim(),
-                PageRequest.of(0, limit)
+                Math.max(1, Math.min(limit, 50))
         );
 
         return suggestions.stream()
@@ -141,48 +297,156 @@ public class PetFacilityController {
             @RequestParam double southWestLng,
             @RequestParam double northEastLng,
             @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String openAt,
             @RequestParam(defaultValue = "100") int limit
     ) {
         String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
                 ? searchQuery.trim() : null;
 
-        List<PetFacility> facilities = petFacilityRepository.findFacilitiesInBounds(
-                southWestLat, northEastLat, southWestLng, northEastLng,
-                processedSearchQuery,
-                PageRequest.of(0, limit)
-        );
+        // DB 범위 스캔 대신 인메모리 공간 인덱스(KD-트리)에서 조회
+        FacilityFilter filter = FacilityFilter.builder()
+                .searchQuery(processedSearchQuery)
+                .openAt(parseOpenAt(openAt))
+                .build();
+        List<PetFacility> facilities = petFacilityIndexService.findInBounds(
+                southWestLat, northEastLat, southWestLng, northEastLng, filter,
+                Math.max(0, Math.min(limit, FacilityViewport.MAX_LIMIT)));
 
         return facilities.stream()
-                .map(facility -> new PetFacilitySearchDto(
-                        facility.getId(),
-                        facility.getName(),
-                        facility.getLatitude(),
-                        facility.getLongitude(),
-                        facility.getCategory2(),
-                        facility.getRoadAddress(),
-                        facility.getCategory3(),
-                        facility.getSidoName(),
-                        facility.getSigunguName(),
-                        facility.getRoadName(),
-                        facility.getBunji(),
-                        facility.getJibunAddress(),
-                        facility.getPhoneNumber(),
-                        facility.getHoliday(),
-                        facility.getOperatingHours(),
-                        facility.getParkingAvailable(),
-                        facility.getPetFriendlyInfo(),
-                        facility.getAllowedPetSize(),
-                        facility.getPetRestrictions(),
-                        facility.getIndoorFacility(),
-                        facility.getOutdoorFacility()
-                ))
+                .map(this::toSearchDto)
                 .collect(Collectors.toList());
     }
 
+    // 지도 이동 중 /search/bounds 대신 사용: 이전 화면 대비 새로 들어온 시설과 빠진 id만 반환
+    // 이전 화면은 직전 응답의 viewport 토큰으로, 또는 prev* 좌표로 전달 (좌표로 주면 검색 조건은 같은 것으로 본다)
+    // 둘 다 없거나 그 사이 시설 데이터가 갱신됐으면 reset=true와 함께 전체 결과를 반환
+    @GetMapping("/search/bounds/diff")
+    public FacilityViewportDiffDto diffFacilitiesInBounds(
+            @RequestParam double southWestLat,
+            @RequestParam double northEastLat,
+            @RequestParam double southWestLng,
+            @RequestParam double northEastLng,
+            @RequestParam(required = false) String viewport,
+            @RequestParam(required = false) Double prevSouthWestLat,
+            @RequestParam(required = false) Double prevNorthEastLat,
+            @RequestParam(required = false) Double prevSouthWestLng,
+            @RequestParam(required = false) Double prevNorthEastLng,
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
+                ? searchQuery.trim() : null;
+        int boundedLimit = Math.max(0, Math.min(limit, FacilityViewport.MAX_LIMIT));
+        FacilityViewport next = new FacilityViewport(southWestLat, northEastLat, southWestLng, northEastLng,
+                processedSearchQuery, parseOpenAt(openAt), boundedLimit, 0);
+
+        FacilityViewport previous = null;
+        if (viewport != null && !viewport.isBlank()) {
+            try {
+                previous = FacilityViewport.decode(viewport);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 viewport 토큰입니다.");
+            }
+        } else if (prevSouthWestLat != null && prevNorthEastLat != null
+                && prevSouthWestLng != null && prevNorthEastLng != null) {
+            previous = new FacilityViewport(prevSouthWestLat, prevNorthEastLat, prevSouthWestLng, prevNorthEastLng,
+                    next.getSearchQuery(), next.getOpenAt(), boundedLimit,
+                    petFacilityIndexService.getSnapshot().getVersion());
+        }
+        return petFacilityIndexService.diffInBounds(previous, next);
+    }
+
+    // 내 주변 시설: 기준 좌표에서 가까운 순으로 k개 (필터는 /search/bounds/filtered와 같음)
+    @GetMapping("/nearest")
+    public List<NearbyFacilityDto> findNearestFacilities(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) Double radiusMeters,
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String sidoName,
+            @RequestParam(required = false) String sigunguName,
+            @RequestParam(required = false) Set<String> category2,
+            @RequestParam(required = false) Set<String> allowedPetSize,
+            @RequestParam(required = false) String parkingAvailable,
+            @RequestParam(required = false) String indoorFacility,
+            @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(required = false) Double minRating
+    ) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "좌표 범위가 올바르지 않습니다.");
+        }
+        if (category2 != null && category2.isEmpty()) category2 = null;
+        minRating = normalizeMinRating(minRating);
+
+        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
+                ? searchQuery.trim() : null;
+
+        FacilityFilter filter = FacilityFilter.builder()
+                .searchQuery(processedSearchQuery)
+                .searchAddress(true)
+                .sidoName(sidoName)
+                .sigunguName(sigunguName)
+                .category2(category2)
+                .petSizeMask(toPetSizeMask(allowedPetSize))
+                .parkingAvailable(parkingAvailable)
+                .indoorFacility(indoorFacility)
+                .outdoorFacility(outdoorFacility)
+                .openAt(parseOpenAt(openAt))
+                .minRating(minRating)
+                .build();
+        return petFacilityIndexService.findNearest(lat, lng, filter,
+                Math.max(1, Math.min(k, 100)),
+                radiusMeters == null || radiusMeters <= 0 ? Double.MAX_VALUE : radiusMeters);
+    }
+
+    // 줌 레벨별 마커 클러스터 (zoom: 웹 메르카토르 기준 0~20)
+    @GetMapping("/clusters")
+    public List<FacilityClusterDto> getClusters(
+            @RequestParam int zoom,
+            @RequestParam double southWestLat,
+            @RequestParam double northEastLat,
+            @RequestParam double southWestLng,
+            @RequestParam double northEastLng
+    ) {
+        return petFacilityIndexService.findClusters(zoom, southWestLat, northEastLat, southWestLng, northEastLng);
+    }
+
+    // z/x/y 타일 단위 시설 조회 (If-None-Match가 일치하면 304)
+    @GetMapping("/tiles/{z}/{x}/{y}")
+    public ResponseEntity<List<PetFacilitySearchDto>> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            WebRequest request
+    ) {
+        FacilityTileService.FacilityTile tile = facilityTileService.getTile(z, x, y);
+        if (request.checkNotModified(tile.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(tile.getEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic())
+                .body(tile.getFacilities());
+    }
+
     // 기존 단일 조회 엔드포인트들 (유지)
+    // 전체 목록: 응답은 기존과 같은 엔티티 JSON 배열, 단 엔티티를 모두 올리지 않고 JDBC 커서로 읽으면서 흘려보낸다
     @GetMapping
-    public List<PetFacility> getAllPetFacilities() {
-        return petFacilityRepository.findAll();
+    public ResponseEntity<StreamingResponseBody> getAllPetFacilities() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(facilityExportService::writeEntityArray);
+    }
+
+    // 전체 목록 내보내기: 엔티티를 모두 올리지 않고 JDBC 커서로 읽으면서 NDJSON(한 줄에 시설 하나)으로 흘려보낸다
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportPetFacilities() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(facilityExportService::writeNdjson);
     }
 
     @GetMapping("/category2/{category2}")
@@ -237,6 +501,15 @@ public class PetFacilityController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 시설 상세 화면용 통합 조회: 시설 + 평점 요약 + 리뷰 첫 페이지 + (로그인 시) 찜/좋아요 상태
+    @GetMapping("/{id}/overview")
+    public FacilityDetailDto getFacilityOverview(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "latest") String reviewSort,
+                                                 @RequestParam(defaultValue = "10") int reviewSize,
+                                                 Authentication authentication) {
+        return facilityDetailService.getDetail(id, reviewSort, Math.max(1, Math.min(reviewSize, 50)), authentication);
+    }
+
     // 이름과 지역으로 정확한 시설 조회
     @GetMapping("/detail")
     public ResponseEntity<PetFacility> getFacilityByNameAndLocation(
@@ -257,181 +530,29 @@ public class PetFacilityController {
         return ResponseEntity.notFound().build();
     }
 
-    // 펫 사이즈 매핑 로직
-    private Set<String> mapToOriginalPetSizes(Set<String> simplifiedSizes) {
-        Set<String> originalSizes = new HashSet<>();
-        List<String> allDbSizes = petFacilityRepository.findDistinctAllowedPetSize();
-
-        System.out.println("=== 펫 사이즈 매핑 디버깅 ===");
-        System.out.println("선택된 간소화 사이즈: " + simplifiedSizes);
-
-        for (String dbSize : allDbSizes) {
-            Set<String> categories = classifyPetSizeToMultipleCategories(dbSize);
-
-            // 🔍 특정 텍스트만 디버깅
-            if (dbSize.contains("주말") || dbSize.contains("15kg")) {
-                System.out.println("📍 디버깅: '" + dbSize + "' → 분류 결과: " + categories);
-            }
-
-            // 분류된 카테고리들 중 사용자가 선택한 조건과 일치하는 것이 하나라도 있다면 추가
-            for (String category : categories) {
-                if (simplifiedSizes.contains(category)) {
-                    originalSizes.add(dbSize);
-                    if (dbSize.contains("주말") || dbSize.contains("15kg")) {
-                        System.out.println("✅ 매칭됨: '" + dbSize + "' (카테고리: " + category + ")");
-                    }
-                    break; // 하나라도 일치하면 추가하고 다음 dbSize로
-                }
-            }
-        }
-
-        System.out.println("최종 originalSizes 개수: " + originalSizes.size());
-        return originalSizes;
-    }
-
-    // 하나의 DB 사이즈를 여러 카테고리로 분류
-    private Set<String> classifyPetSizeToMultipleCategories(String dbSize) {
-        Set<String> categories = new HashSet<>();
-
-        if (dbSize == null || dbSize.trim().isEmpty()) {
-            return categories;
-        }
-
-        // 🔧 따옴표 제거 및 정규화
-        String normalizedDbSize = dbSize.trim()
-                .replaceAll("[\"\']", "")  // 따옴표 제거
-                .toLowerCase();
-
-        System.out.println("🔍 분류 대상: '" + dbSize + "' → 정규화: '" + normalizedDbSize + "'");
-
-        // 1. 모두가능 카테고리 체크
-        if (ALL_AVAILABLE_KEYWORDS.stream().anyMatch(keyword ->
-                normalizedDbSize.contains(keyword.toLowerCase()))) {
-            categories.add("모두가능");
-            System.out.println("  → 모두가능 분류");
-        }
-
-        // 2. 고양이 카테고리 체크
-        if (normalizedDbSize.contains("고양이") || normalizedDbSize.contains("cat")) {
-            categories.add("고양이");
-            System.out.println("  → 고양이 분류");
-        }
-
-        // 3. 개 카테고리 체크 (수정됨)
-        boolean isDogCategory = false;
-
-        // kg 패턴 체크 (숫자 + kg)
-        if (normalizedDbSize.matches(".*\\d+\\s*kg.*")) {
-            isDogCategory = true;
-            System.out.println("  → 개 분류 (kg 패턴)");
+    // openAt 파라미터: "now"(한국 시간 현재) 또는 ISO 형식 시각 (없으면 null)
+    private static LocalDateTime parseOpenAt(String openAt) {
+        if (openAt == null || openAt.isBlank()) {
+            return null;
         }
-
-        // 개 관련 키워드 체크
-        String[] dogKeywords = {"개", "강아지", "소형", "중형", "대형", "특수견"};
-        for (String keyword : dogKeywords) {
-            if (normalizedDbSize.contains(keyword)) {
-                isDogCategory = true;
-                System.out.println("  → 개 분류 (키워드: " + keyword + ")");
-                break;
-            }
-        }
-
-        // 시간 관련 키워드가 있으면서 kg가 있으면 개로 분류
-        String[] timeKeywords = {"주말", "평일", "공휴일", "금요일", "토요일", "일요일"};
-        boolean hasTimeKeyword = false;
-        for (String timeKeyword : timeKeywords) {
-            if (normalizedDbSize.contains(timeKeyword)) {
-                hasTimeKeyword = true;
-                System.out.println("  → 시간 키워드 발견: " + timeKeyword);
-                break;
-            }
+        if (openAt.trim().equalsIgnoreCase("now")) {
+            return LocalDateTime.now(SEOUL);
         }
-
-        if (hasTimeKeyword && normalizedDbSize.contains("kg")) {
-            isDogCategory = true;
-            System.out.println("  → 개 분류 (시간 + kg 패턴)");
-        }
-
-        if (isDogCategory) {
-            categories.add("개");
-        }
-
-        // 4. 기타 카테고리 체크 (정확한 단어 매칭)
-        if (containsExactOtherPetKeyword(dbSize)) {
-            categories.add("기타");
-            System.out.println("  → 기타 분류");
+        try {
+            return LocalDateTime.parse(openAt.trim());
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "openAt 형식이 올바르지 않습니다. (예: 2025-07-01T14:30 또는 now)");
         }
-
-        System.out.println("🔍 최종 분류 결과: " + categories);
-        return categories;
     }
 
-    // 기타 동물 키워드 매칭 메서드
-    private boolean containsExactOtherPetKeyword(String dbSize) {
-        if (dbSize == null) return false;
-
-        // 🔧 따옴표 제거 및 정규화
-        String normalizedDbSize = dbSize.trim()
-                .replaceAll("[\"\']", "")
-                .toLowerCase();
-
-        // 🚨 kg가 포함된 텍스트는 기타 분류에서 제외 (개 전용)
-        if (normalizedDbSize.matches(".*\\d+\\s*kg.*")) {
-            System.out.println("  → 기타 분류 제외 (kg 패턴 감지): " + dbSize);
-            return false;
-        }
-
-        // 🚨 시간 관련 키워드가 있으면 기타 분류에서 제외
-        String[] timeKeywords = {"주말", "평일", "공휴일", "금요일", "토요일", "일요일"};
-        for (String timeKeyword : timeKeywords) {
-            if (normalizedDbSize.contains(timeKeyword)) {
-                System.out.println("  → 기타 분류 제외 (시간 키워드 감지): " + timeKeyword);
-                return false;
-            }
+    // 선택한 펫 사이즈 카테고리 -> 비트마스크 (선택 없으면 null)
+    private Integer toPetSizeMask(Set<String> allowedPetSize) {
+        if (allowedPetSize == null || allowedPetSize.isEmpty()) {
+            return null;
         }
-
-        for (String keyword : OTHER_PET_KEYWORDS) {
-            String lowerKeyword = keyword.toLowerCase();
-
-            // "소"의 경우 특별 처리 (기존과 동일)
-            if (lowerKeyword.equals("소")) {
-                if (normalizedDbSize.matches(".*[^가-힣]소[^가-힣].*") ||
-                        normalizedDbSize.matches(".*[,\\s]소[,\\s].*") ||
-                        normalizedDbSize.startsWith("소,") ||
-                        normalizedDbSize.startsWith("소 ") ||
-                        normalizedDbSize.endsWith(",소") ||
-                        normalizedDbSize.endsWith(" 소") ||
-                        normalizedDbSize.equals("소")) {
-                    System.out.println("  → 기타 분류 (키워드: 소)");
-                    return true;
-                }
-            }
-            // "새"의 경우 특별 처리 (단독으로 나타날 때만)
-            else if (lowerKeyword.equals("새")) {
-                if (normalizedDbSize.matches(".*[^가-힣]새[^가-힣].*") ||
-                        normalizedDbSize.matches(".*[,\\s]새[,\\s].*") ||
-                        normalizedDbSize.startsWith("새,") ||
-                        normalizedDbSize.startsWith("새 ") ||
-                        normalizedDbSize.endsWith(",새") ||
-                        normalizedDbSize.endsWith(" 새") ||
-                        normalizedDbSize.equals("새") ||
-                        normalizedDbSize.contains("새(")) {
-                    System.out.println("  → 기타 분류 (키워드: 새)");
-                    return true;
-                }
-            } else {
-                // 다른 키워드들은 기존 방식대로 (단, 정확한 매칭)
-                if (normalizedDbSize.contains(lowerKeyword)) {
-                    System.out.println("  → 기타 분류 (키워드: " + lowerKeyword + ")");
-                    return true;
-                }
-            }
-        }
-        return false;
+        return PetSizeClassifier.maskOf(allowedPetSize);
     }
 
-    // PetFacilityController.java에 추가할 메서드
-
     // 🆕 필터가 적용된 지도 화면 범위 내 시설 검색
     @GetMapping("/search/bounds/filtered")
     public List<PetFacilitySearchDto> searchFacilitiesInBoundsWithFilters(
@@ -447,64 +568,206 @@ public class PetFacilityController {
             @RequestParam(required = false) String parkingAvailable,
             @RequestParam(required = false) String indoorFacility,
             @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(required = false) Double minRating,
             @RequestParam(defaultValue = "100") int limit
     ) {
-        System.out.println("=== 필터 적용된 범위 검색 ===");
-        System.out.println("범위: " + southWestLat + "~" + northEastLat + ", " + southWestLng + "~" + northEastLng);
-        System.out.println("검색어: " + searchQuery);
-        System.out.println("지역: " + sidoName + " / " + sigunguName);
-        System.out.println("카테고리: " + category2);
-        System.out.println("펫사이즈: " + allowedPetSize);
-
         if (category2 != null && category2.isEmpty()) category2 = null;
-
-        Set<String> originalPetSizesToSearch = null;
-        if (allowedPetSize != null && !allowedPetSize.isEmpty()) {
-            originalPetSizesToSearch = mapToOriginalPetSizes(allowedPetSize);
-        }
+        minRating = normalizeMinRating(minRating);
+        int boundedLimit = Math.max(0, Math.min(limit, FacilityViewport.MAX_LIMIT));
 
         String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
                 ? searchQuery.trim() : null;
 
-        List<PetFacility> facilities = petFacilityRepository.findFacilitiesInBoundsWithFilters(
-                southWestLat, northEastLat, southWestLng, northEastLng,
-                processedSearchQuery,
-                sidoName,
-                sigunguName,
-                category2,
-                originalPetSizesToSearch,
-                parkingAvailable,
-                indoorFacility,
-                outdoorFacility,
-                PageRequest.of(0, limit)
-        );
+        FacilityFilter filter = FacilityFilter.builder()
+                .searchQuery(processedSearchQuery)
+                .searchAddress(true)
+                .sidoName(sidoName)
+                .sigunguName(sigunguName)
+                .category2(category2)
+                .petSizeMask(toPetSizeMask(allowedPetSize))
+                .parkingAvailable(parkingAvailable)
+                .indoorFacility(indoorFacility)
+                .outdoorFacility(outdoorFacility)
+                .openAt(parseOpenAt(openAt))
+                .minRating(minRating)
+                .build();
+        BoundsQuery query = new BoundsQuery(southWestLat, northEastLat, southWestLng, northEastLng,
+                filter.getSearchQuery(), filter.getSidoName(), filter.getSigunguName(), category2, filter.getPetSizeMask(),
+                filter.getParkingAvailable(), filter.getIndoorFacility(), filter.getOutdoorFacility(),
+                filter.getOpenAt(), minRating, boundedLimit);
+
+        return boundsQueries.run(query, () -> petFacilityIndexService.findInBounds(
+                        southWestLat, northEastLat, southWestLng, northEastLng, filter, boundedLimit)
+                .stream()
+                .map(this::toSearchDto)
+                .collect(Collectors.toList()));
+    }
+
+    // /search/bounds/filtered 요청 단위 (동시 요청 합치기용 키, 문자열 조건은 FacilityFilter에서 소문자로 정규화된 값)
+    private record BoundsQuery(double southWestLat, double northEastLat, double southWestLng, double northEastLng,
+                               String searchQuery, String sidoName, String sigunguName, Set<String> category2,
+                               Integer petSizeMask, String parkingAvailable, String indoorFacility,
+                               String outdoorFacility, LocalDateTime openAt, Double minRating, int limit) {
+    }
+
+    // 지도 마커 전용 바이너리 응답 (id, 좌표, category2만 / 형식은 MarkerFrameEncoder 참고)
+    // 조건은 /search/bounds/filtered와 같고, 상세 정보는 /search/ids로 필요할 때 조회
+    @GetMapping("/search/bounds/markers")
+    public ResponseEntity<byte[]> searchMarkersInBounds(
+            @RequestParam double southWestLat,
+            @RequestParam double northEastLat,
+            @RequestParam double southWestLng,
+            @RequestParam double northEastLng,
+            @RequestParam(required = false) String searchQuery,
+            @RequestParam(required = false) String sidoName,
+            @RequestParam(required = false) String sigunguName,
+            @RequestParam(required = false) Set<String> category2,
+            @RequestParam(required = false) Set<String> allowedPetSize,
+            @RequestParam(required = false) String parkingAvailable,
+            @RequestParam(required = false) String indoorFacility,
+            @RequestParam(required = false) String outdoorFacility,
+            @RequestParam(required = false) String openAt,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        if (category2 != null && category2.isEmpty()) category2 = null;
+        minRating = normalizeMinRating(minRating);
+
+        String processedSearchQuery = (searchQuery != null && !searchQuery.trim().isEmpty())
+                ? searchQuery.trim() : null;
 
-        System.out.println("결과: " + facilities.size() + "개");
+        FacilityFilter filter = FacilityFilter.builder()
+                .searchQuery(processedSearchQuery)
+                .searchAddress(true)
+                .sidoName(sidoName)
+                .sigunguName(sigunguName)
+                .category2(category2)
+                .petSizeMask(toPetSizeMask(allowedPetSize))
+                .parkingAvailable(parkingAvailable)
+                .indoorFacility(indoorFacility)
+                .outdoorFacility(outdoorFacility)
+                .openAt(parseOpenAt(openAt))
+                .minRating(minRating)
+                .build();
+        List<PetFacility> facilities = petFacilityIndexService.findInBounds(
+                southWestLat, northEastLat, southWestLng, northEastLng, filter, Math.max(0, Math.min(limit, FacilityViewport.MAX_LIMIT)));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MarkerFrameEncoder.CONTENT_TYPE))
+                .body(MarkerFrameEncoder.encode(facilities));
+    }
 
-        return facilities.stream()
-                .map(facility -> new PetFacilitySearchDto(
-                        facility.getId(),
-                        facility.getName(),
-                        facility.getLatitude(),
-                        facility.getLongitude(),
-                        facility.getCategory2(),
-                        facility.getRoadAddress(),
-                        facility.getCategory3(),
-                        facility.getSidoName(),
-                        facility.getSigunguName(),
-                        facility.getRoadName(),
-                        facility.getBunji(),
-                        facility.getJibunAddress(),
-                        facility.getPhoneNumber(),
-                        facility.getHoliday(),
-                        facility.getOperatingHours(),
-                        facility.getParkingAvailable(),
-                        facility.getPetFriendlyInfo(),
-                        facility.getAllowedPetSize(),
-                        facility.getPetRestrictions(),
-                        facility.getIndoorFacility(),
-                        facility.getOutdoorFacility()
-                ))
+    // 마커를 누른 뒤 상세 정보 일괄 조회 (요청한 id 순서 유지, 없는 id는 생략)
+    @GetMapping("/search/ids")
+    public List<PetFacilitySearchDto> getFacilitiesByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > 200) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 200개까지 조회할 수 있습니다.");
+        }
+        FacilitySnapshot snapshot = petFacilityIndexService.getSnapshot();
+        return ids.stream()
+                .map(snapshot::findById)
+                .flatMap(Optional::stream)
+                .map(this::toSearchDto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // 검색 결과 캐시 상태 (관리자)
+    @GetMapping("/search/cache/stats")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public Map<String, Object> getSearchCacheStats() {
+        return facilitySearchCacheService.stats();
+    }
+
+    // 타일 캐시 상태 (관리자)
+    @GetMapping("/tiles/stats")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public Map<String, Object> getTileCacheStats() {
+        return facilityTileService.stats();
+    }
+
+    // 시설 데이터를 DB에서 직접 수정한 경우 인메모리 인덱스 재생성 (관리자)
+    @PostMapping("/index/refresh")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<Map<String, Object>> refreshIndex() {
+        int count = petFacilityIndexService.refresh();
+        return ResponseEntity.ok(Map.of("message", "시설 인덱스가 갱신되었습니다.", "count", count));
+    }
+
+    // 시설 평점 집계를 review 기준으로 다시 계산 (관리자, 평소에는 매일 새벽 자동 실행)
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<Map<String, Object>> rebuildFacilityStats() {
+        int count = facilityStatsService.rebuild();
+        return ResponseEntity.ok(Map.of("message", "시설 평점 집계를 다시 계산했습니다.", "count", count));
+    }
+
+    // 공공데이터 CSV로 시설 일괄 등록 (관리자, 이미 있는 시설은 건너뜀)
+    @PostMapping("/import")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<FacilityImportResultDto> importFacilities(@RequestParam("file") MultipartFile file,
+                                                                    @RequestParam(required = false) String charset) {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어 있습니다.");
+        }
+        Charset fileCharset = parseCharset(charset);
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(facilityImportService.importCsv(input, fileCharset));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    // 전체 데이터셋 CSV와 비교해 바뀐 시설만 수정/추가/삭제 (관리자, dryRun=true면 비교 결과만)
+    @PostMapping("/import/sync")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<FacilitySyncResultDto> syncFacilities(@RequestParam("file") MultipartFile file,
+                                                                @RequestParam(required = false) String charset,
+                                                                @RequestParam(defaultValue = "false") boolean dryRun) {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일이 비어 있습니다.");
+        }
+        Charset fileCharset = parseCharset(charset);
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(facilityImportService.syncCsv(input, fileCharset, dryRun));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    // CSV 인코딩 (예: UTF-8, CP949, EUC-KR), 없으면 서비스에서 자동 판별
+    // 자바의 "CP949"는 IBM949라서 윈도우 CP949(MS949)로 바꿔 읽는다
+    private static Charset parseCharset(String charset) {
+        if (charset == null || charset.isBlank()) {
+            return null;
+        }
+        String name = charset.trim();
+        try {
+            return Charset.forName(name.equalsIgnoreCase("CP949") ? "MS949" : name);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 charset입니다: " + charset);
+        }
+    }
+
+    // 펫 사이즈 분류 키워드를 바꿔 전체 시설 재분류 (관리자, 본문이 없으면 기본 키워드)
+    @PostMapping("/index/pet-sizes/reclassify")
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<Map<String, Object>> reclassifyPetSizes(
+            @RequestBody(required = false) PetSizeKeywordsDto keywords) {
+        PetSizeKeywordsDto request = keywords == null ? new PetSizeKeywordsDto() : keywords;
+        PetSizeClassifier classifier = new PetSizeClassifier(
+                orDefault(request.getAllKeywords(), PetSizeClassifier.DEFAULT_ALL_KEYWORDS),
+                orDefault(request.getCatKeywords(), PetSizeClassifier.DEFAULT_CAT_KEYWORDS),
+                orDefault(request.getDogKeywords(), PetSizeClassifier.DEFAULT_DOG_KEYWORDS),
+                orDefault(request.getOtherKeywords(), PetSizeClassifier.DEFAULT_OTHER_KEYWORDS));
+        return ResponseEntity.ok(petFacilityIndexService.reclassifyPetSizes(classifier));
+    }
+
+    private static Collection<String> orDefault(List<String> keywords, Set<String> defaults) {
+        return keywords == null || keywords.isEmpty() ? defaults : keywords;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityClusterDto {
+    private Double latitude; // 클러스터 중심 (소속 시설 좌표 평균)
+    private Double longitude;
+    private Integer count; // 소속 시설 수
+    private String category2; // 가장 많은 카테고리
+    private Long facilityId; // 시설이 1개일 때만 해당 시설 id
+}
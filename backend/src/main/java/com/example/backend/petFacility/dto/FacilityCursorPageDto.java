@@ -0,0 +1,16 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityCursorPageDto {
+    private List<PetFacilitySearchDto> content;
+    private String nextCursor; // 다음 페이지 요청 시 after로 전달 (마지막 페이지면 null)
+    private Integer total; // withTotal=true일 때만 채움
+}
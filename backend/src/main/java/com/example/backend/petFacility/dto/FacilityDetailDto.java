@@ -0,0 +1,21 @@
+package com.example.backend.petFacility.dto;
+
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.review.dto.ReviewListDto;
+import com.example.backend.review.dto.ReviewRatingSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityDetailDto {
+    private PetFacility facility; // GET /{id}와 같은 형태
+    private ReviewRatingSummaryDto ratingSummary;
+    private List<ReviewListDto> reviews; // 첫 페이지 (likesCount 포함)
+    private Boolean isFavorite; // 비로그인이면 false
+    private List<Integer> likedReviewIds; // reviews 중 로그인한 회원이 좋아요한 리뷰 (비로그인이면 빈 목록)
+}
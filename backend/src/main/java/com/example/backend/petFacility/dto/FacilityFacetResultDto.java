@@ -0,0 +1,17 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityFacetResultDto {
+    private Integer total; // 조건에 맞는 전체 시설 수
+    private List<Long> ids; // 시설 id (이름순, 최대 limit개)
+    private Map<String, Map<String, Integer>> facets; // 필터 항목 -> 값 -> 결과 수 (해당 항목 조건만 뺀 기준)
+}
@@ -0,0 +1,23 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityImportResultDto {
+    private int totalRows;          // 헤더를 뺀 CSV 행 수
+    private int inserted;
+    private int skippedExisting;    // 이미 등록된 시설 (시설명 + 시도 + 시군구)
+    private int skippedDuplicate;   // 같은 파일 안에서 중복된 행
+    private int invalid;            // 검증 실패 행
+    private int truncatedValues;    // 255자를 넘어 잘린 값 수
+    private List<String> errors;    // 검증 실패 사유 (앞쪽 일부만)
+    private long elapsedMs;
+    private long rowsPerSecond;
+    private int indexedFacilities;  // 등록 후 인메모리 인덱스 시설 수
+}
@@ -0,0 +1,28 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilitySyncResultDto {
+    private boolean dryRun;         // true면 반영하지 않고 비교 결과만
+    private int totalRows;          // 헤더를 뺀 CSV 행 수
+    private int unchanged;
+    private int updated;
+    private int inserted;
+    private int deleted;
+    private int keptReferenced;     // 파일에 없지만 리뷰가 있어 남긴 시설 수
+    private int keptFavorited;      // 파일에 없지만 (리뷰는 없고) 즐겨찾기가 있어 남긴 시설 수
+    private boolean deletesSkipped; // 파일이 너무 작아 삭제를 건너뛰었는지
+    private int invalid;            // 검증 실패 행
+    private int truncatedValues;    // 255자를 넘어 잘린 값 수
+    private List<String> errors;    // 검증 실패 사유 (앞쪽 일부만)
+    private Set<Long> changedIds;   // 수정/추가/삭제된 시설 id (미리보기에는 추가 id 없음)
+    private long elapsedMs;
+}
@@ -0,0 +1,18 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FacilityViewportDiffDto {
+    private boolean reset; // true면 이전 결과를 버리고 added로 교체 (이전 화면 없음, 시설 데이터 갱신 등)
+    private List<PetFacilitySearchDto> added; // 새로 들어온 시설 (이름순)
+    private List<Long> removedIds; // 화면 결과에서 빠진 시설 id
+    private int total; // 새 화면의 전체 결과 수 (limit 이하)
+    private String viewport; // 다음 요청 시 viewport로 전달
+}
@@ -0,0 +1,15 @@
+package com.example.backend.petFacility.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NearbyFacilityDto {
+    @JsonUnwrapped
+    private PetFacilitySearchDto facility; // 기존 검색 결과와 같은 필드를 그대로 펼쳐서 응답
+    private Double distanceMeters; // 기준 좌표로부터의 직선(대권) 거리
+}
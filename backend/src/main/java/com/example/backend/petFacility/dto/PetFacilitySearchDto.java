@@ -1,5 +1,7 @@
 package com.example.backend.petFacility.dto;
 
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilityRating;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,4 +31,38 @@ public class PetFacilitySearchDto {
     private String petRestrictions;
     private String indoorFacility;
     private String outdoorFacility;
+    private Double averageRating; // 평점 집계를 함께 내려주는 응답에서만 채움 (그 외 null)
+    private Integer reviewCount;
+
+    public static PetFacilitySearchDto fromEntity(PetFacility facility) {
+        return fromEntity(facility, null);
+    }
+
+    public static PetFacilitySearchDto fromEntity(PetFacility facility, FacilityRating rating) {
+        return new PetFacilitySearchDto(
+                facility.getId(),
+                facility.getName(),
+                facility.getLatitude(),
+                facility.getLongitude(),
+                facility.getCategory2(),
+                facility.getRoadAddress(),
+                facility.getCategory3(),
+                facility.getSidoName(),
+                facility.getSigunguName(),
+                facility.getRoadName(),
+                facility.getBunji(),
+                facility.getJibunAddress(),
+                facility.getPhoneNumber(),
+                facility.getHoliday(),
+                facility.getOperatingHours(),
+                facility.getParkingAvailable(),
+                facility.getPetFriendlyInfo(),
+                facility.getAllowedPetSize(),
+                facility.getPetRestrictions(),
+                facility.getIndoorFacility(),
+                facility.getOutdoorFacility(),
+                rating == null ? null : rating.average(),
+                rating == null ? null : rating.reviewCount()
+        );
+    }
 }
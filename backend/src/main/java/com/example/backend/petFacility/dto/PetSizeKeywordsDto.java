@@ -0,0 +1,14 @@
+package com.example.backend.petFacility.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+// 펫 사이즈 재분류 요청 (비워둔 목록은 기본 키워드 사용)
+@Data
+public class PetSizeKeywordsDto {
+    private List<String> allKeywords;
+    private List<String> catKeywords;
+    private List<String> dogKeywords;
+    private List<String> otherKeywords;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.petFacility.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 시설별 리뷰 집계 (facility_stats)
+// 값은 FacilityStatsRepository의 네이티브 쿼리로만 증감하므로 엔티티는 조회 전용
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "facility_stats")
+public class FacilityStats {
+
+    @Id
+    private Long facilityId;
+
+    private Integer reviewCount;
+    private Integer ratingSum;
+    private Integer rating1;
+    private Integer rating2;
+    private Integer rating3;
+    private Integer rating4;
+    private Integer rating5;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
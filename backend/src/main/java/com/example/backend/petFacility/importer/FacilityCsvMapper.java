@@ -0,0 +1,156 @@
+package com.example.backend.petFacility.importer;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// 공공데이터 반려동물 동반 시설 CSV 한 행 -> PetFacility 변환/검증
+// CSV 헤더(한글)와 DB 컬럼의 대응은 PetFacility 필드 주석과 같다.
+public class FacilityCsvMapper {
+
+    public static final int MAX_LENGTH = 255; // pet_facility 문자열 컬럼 크기
+
+    private static final Pattern FLOAT_POSTAL_CODE = Pattern.compile("\\d{1,5}\\.0+");
+
+    // CSV 헤더 / DB 컬럼 / 엔티티 접근자
+    public record Column(String header, String dbColumn,
+                         Function<PetFacility, Object> getter, BiConsumer<PetFacility, String> setter) {
+    }
+
+    // 위도/경도는 숫자라 별도 처리 (setter 없음)
+    public static final List<Column> COLUMNS = List.of(
+            new Column("시설명", "name", PetFacility::getName, PetFacility::setName),
+            new Column("카테고리1", "category1", PetFacility::getCategory1, PetFacility::setCategory1),
+            new Column("카테고리2", "category2", PetFacility::getCategory2, PetFacility::setCategory2),
+            new Column("카테고리3", "category3", PetFacility::getCategory3, PetFacility::setCategory3),
+            new Column("시도 명칭", "sido_name", PetFacility::getSidoName, PetFacility::setSidoName),
+            new Column("시군구 명칭", "sigungu_name", PetFacility::getSigunguName, PetFacility::setSigunguName),
+            new Column("법정읍면동명칭", "legal_eup_myeon_dong_name", PetFacility::getLegalEupMyeonDongName, PetFacility::setLegalEupMyeonDongName),
+            new Column("리 명칭", "ri_name", PetFacility::getRiName, PetFacility::setRiName),
+            new Column("번지", "bunji", PetFacility::getBunji, PetFacility::setBunji),
+            new Column("도로명 이름", "road_name", PetFacility::getRoadName, PetFacility::setRoadName),
+            new Column("건물 번호", "building_number", PetFacility::getBuildingNumber, PetFacility::setBuildingNumber),
+            new Column("위도", "latitude", PetFacility::getLatitude, null),
+            new Column("경도", "longitude", PetFacility::getLongitude, null),
+            new Column("우편번호", "postal_code", PetFacility::getPostalCode, PetFacility::setPostalCode),
+            new Column("도로명주소", "road_address", PetFacility::getRoadAddress, PetFacility::setRoadAddress),
+            new Column("지번주소", "jibun_address", PetFacility::getJibunAddress, PetFacility::setJibunAddress),
+            new Column("전화번호", "phone_number", PetFacility::getPhoneNumber, PetFacility::setPhoneNumber),
+            new Column("홈페이지", "homepage", PetFacility::getHomepage, PetFacility::setHomepage),
+            new Column("휴무일", "holiday", PetFacility::getHoliday, PetFacility::setHoliday),
+            new Column("운영시간", "operating_hours", PetFacility::getOperatingHours, PetFacility::setOperatingHours),
+            new Column("주차 가능여부", "parking_available", PetFacility::getParkingAvailable, PetFacility::setParkingAvailable),
+            new Column("입장(이용료)가격 정보", "admission_fee_info", PetFacility::getAdmissionFeeInfo, PetFacility::setAdmissionFeeInfo),
+            new Column("반려동물 동반 가능정보", "pet_friendly_info", PetFacility::getPetFriendlyInfo, PetFacility::setPetFriendlyInfo),
+            new Column("반려동물 전용 정보", "pet_only_info", PetFacility::getPetOnlyInfo, PetFacility::setPetOnlyInfo),
+            new Column("입장 가능 동물 크기", "allowed_pet_size", PetFacility::getAllowedPetSize, PetFacility::setAllowedPetSize),
+            new Column("반려동물 제한사항", "pet_restrictions", PetFacility::getPetRestrictions, PetFacility::setPetRestrictions),
+            new Column("장소(실내) 여부", "indoor_facility", PetFacility::getIndoorFacility, PetFacility::setIndoorFacility),
+            new Column("장소(실외)여부", "outdoor_facility", PetFacility::getOutdoorFacility, PetFacility::setOutdoorFacility),
+            new Column("기본 정보_장소설명", "description", PetFacility::getDescription, PetFacility::setDescription),
+            new Column("애견 동반 추가 요금", "additional_pet_fee", PetFacility::getAdditionalPetFee, PetFacility::setAdditionalPetFee),
+            new Column("최종작성일", "final_creation_date", PetFacility::getFinalCreationDate, PetFacility::setFinalCreationDate)
+    );
+
+    private final int[] positions; // COLUMNS 순서별 CSV 열 위치 (-1: 없음)
+
+    // 헤더 행으로 열 위치를 한 번만 계산 (헤더 공백/BOM은 무시)
+    public FacilityCsvMapper(List<String> headerNames) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < headerNames.size(); i++) {
+            String header = headerNames.get(i);
+            if (header != null) {
+                index.putIfAbsent(header.replace("\uFEFF", "").trim(), i);
+            }
+        }
+        this.positions = new int[COLUMNS.size()];
+        List<String> missing = new ArrayList<>();
+        for (int c = 0; c < COLUMNS.size(); c++) {
+            positions[c] = index.getOrDefault(COLUMNS.get(c).header(), -1);
+            if (positions[c] < 0) {
+                missing.add(COLUMNS.get(c).header());
+            }
+        }
+        if (missing.contains("시설명") || missing.contains("위도") || missing.contains("경도")) {
+            throw new IllegalArgumentException("CSV 필수 컬럼이 없습니다: " + missing);
+        }
+    }
+
+    // 한 행 변환. 값이 올바르지 않으면 IllegalArgumentException (메시지는 결과 리포트에 그대로 사용)
+    // 255자를 넘는 값은 잘라서 저장하고 truncated에 센다.
+    public PetFacility map(List<String> values, int[] truncated) {
+        PetFacility facility = new PetFacility();
+        String latitude = null;
+        String longitude = null;
+
+        for (int c = 0; c < COLUMNS.size(); c++) {
+            Column column = COLUMNS.get(c);
+            String value = positions[c] < 0 || positions[c] >= values.size() ? null : normalize(values.get(positions[c]));
+            if (column.setter() == null) {
+                if (column.dbColumn().equals("latitude")) latitude = value;
+                else longitude = value;
+                continue;
+            }
+            if (value != null && value.length() > MAX_LENGTH) {
+                value = value.substring(0, MAX_LENGTH);
+                truncated[0]++;
+            }
+            column.setter().accept(facility, value);
+        }
+
+        if (facility.getName() == null) {
+            throw new IllegalArgumentException("시설명이 비어 있습니다.");
+        }
+        facility.setLatitude(parseCoordinate(latitude, 90, "위도"));
+        facility.setLongitude(parseCoordinate(longitude, 180, "경도"));
+        if (facility.getLatitude() == 0 && facility.getLongitude() == 0) {
+            throw new IllegalArgumentException("좌표가 없습니다.");
+        }
+        facility.setPostalCode(normalizePostalCode(facility.getPostalCode()));
+        return facility;
+    }
+
+    // 같은 시설 판단 기준: 시설명 + 시도 + 시군구
+    public static String naturalKey(PetFacility facility) {
+        return key(facility.getName()) + '\u0001' + key(facility.getSidoName()) + '\u0001' + key(facility.getSigunguName());
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static double parseCoordinate(String value, double limit, String label) {
+        if (value == null) {
+            throw new IllegalArgumentException(label + "가 비어 있습니다.");
+        }
+        try {
+            double parsed = Double.parseDouble(value);
+            if (Double.isNaN(parsed) || Math.abs(parsed) > limit) {
+                throw new IllegalArgumentException(label + " 범위가 올바르지 않습니다: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 스프레드시트를 거치며 "7223.0"처럼 바뀐 우편번호를 5자리로 복원
+    private static String normalizePostalCode(String value) {
+        if (value == null || !FLOAT_POSTAL_CODE.matcher(value).matches()) {
+            return value;
+        }
+        String digits = value.substring(0, value.indexOf('.'));
+        return "0".repeat(Math.max(0, 5 - digits.length())) + digits;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.backend.petFacility.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+// 줌 레벨별 마커 클러스터 (계층형 격자 클러스터링)
+// 웹 메르카토르 좌표계에서 타일 하나를 CELLS_PER_TILE x CELLS_PER_TILE 격자로 나누고,
+// 가장 세밀한 줌에서부터 한 단계씩 올라가며 자식 셀 4개를 부모 셀 하나로 합친다.
+// 조회 범위는 그 줌에서 한 화면(최대 MAX_VIEWPORT_PX)에 보일 수 있는 크기로 잘라내므로
+// 줌을 올린 채 전 세계 범위를 보내도 한 번에 나오는 클러스터는 (MAX_VIEWPORT_PX / 셀 크기 + 1)^2개를 넘지 않는다.
+public class FacilityClusterIndex {
+
+    public static final int MIN_ZOOM = 0;
+    public static final int MAX_ZOOM = 20;
+    private static final int CELLS_PER_TILE = 4; // 256px 타일 기준 셀 하나 = 64px
+    private static final int TILE_PX = 256;
+    private static final int MAX_VIEWPORT_PX = 4096; // 한 화면 크기 상한 (고해상도 대형 모니터 기준)
+
+    private final Level[] levels = new Level[MAX_ZOOM + 1];
+
+    // 한 줌 레벨의 클러스터 목록 (배열 인덱스 = 클러스터 번호)
+    private static class Level {
+        final double[] lats;
+        final double[] lngs;
+        final int[] counts;
+        final int[] categories;    // 가장 많은 category2의 사전 번호 (-1: 없음)
+        final long[] facilityIds;  // 시설이 1개인 클러스터의 시설 id (그 외 -1)
+        final FacilityKdTree tree;
+
+        Level(double[] lats, double[] lngs, int[] counts, int[] categories, long[] facilityIds) {
+            this.lats = lats;
+            this.lngs = lngs;
+            this.counts = counts;
+            this.categories = categories;
+            this.facilityIds = facilityIds;
+            this.tree = new FacilityKdTree(lats, lngs);
+        }
+    }
+
+    // 클러스터 조회 결과를 받는 콜백
+    public interface ClusterConsumer {
+        void accept(double latitude, double longitude, int count, int category, long facilityId);
+    }
+
+    public FacilityClusterIndex(double[] lats, double[] lngs, int[] categories, int categoryCount, long[] ids) {
+        int size = lats.length;
+
+        // 가장 세밀한 줌: 같은 셀의 시설끼리 묶음
+        int[] cellOf = new int[size];
+        Map<Long, Integer> cellIndex = new HashMap<>();
+        long[] cellKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long key = cellKey(lats[i], lngs[i], MAX_ZOOM);
+            Integer cluster = cellIndex.get(key);
+            if (cluster == null) {
+                cluster = cellIndex.size();
+                cellIndex.put(key, cluster);
+                cellKeys[cluster] = key;
+            }
+            cellOf[i] = cluster;
+        }
+
+        int clusterCount = cellIndex.size();
+        double[] latSum = new double[clusterCount];
+        double[] lngSum = new double[clusterCount];
+        int[] counts = new int[clusterCount];
+        int[][] categoryCounts = new int[clusterCount][categoryCount];
+        long[] facilityIds = new long[clusterCount];
+        for (int i = 0; i < size; i++) {
+            int c = cellOf[i];
+            latSum[c] += lats[i];
+            lngSum[c] += lngs[i];
+            counts[c]++;
+            if (categories[i] >= 0) {
+                categoryCounts[c][categories[i]]++;
+            }
+            facilityIds[c] = ids[i];
+        }
+        long[] keys = new long[clusterCount];
+        System.arraycopy(cellKeys, 0, keys, 0, clusterCount);
+        levels[MAX_ZOOM] = toLevel(latSum, lngSum, counts, categoryCounts, facilityIds);
+
+        // 한 단계씩 위로: 부모 셀 = (cx / 2, cy / 2)
+        for (int zoom = MAX_ZOOM - 1; zoom >= MIN_ZOOM; zoom--) {
+            Map<Long, Integer> parentIndex = new HashMap<>();
+            int[] parentOf = new int[keys.length];
+            long[] parentKeys = new long[keys.length];
+            for (int c = 0; c < keys.length; c++) {
+                long parentKey = parentKey(keys[c]);
+                Integer parent = parentIndex.get(parentKey);
+                if (parent == null) {
+                    parent = parentIndex.size();
+                    parentIndex.put(parentKey, parent);
+                    parentKeys[parent] = parentKey;
+                }
+                parentOf[c] = parent;
+            }
+
+            int parentCount = parentIndex.size();
+            double[] parentLatSum = new double[parentCount];
+            double[] parentLngSum = new double[parentCount];
+            int[] parentCounts = new int[parentCount];
+            int[][] parentCategoryCounts = new int[parentCount][categoryCount];
+            long[] parentFacilityIds = new long[parentCount];
+            for (int c = 0; c < keys.length; c++) {
+                int p = parentOf[c];
+                parentLatSum[p] += latSum[c];
+                parentLngSum[p] += lngSum[c];
+                parentCounts[p] += counts[c];
+                for (int k = 0; k < categoryCount; k++) {
+                    parentCategoryCounts[p][k] += categoryCounts[c][k];
+                }
+                parentFacilityIds[p] = facilityIds[c];
+            }
+
+            latSum = parentLatSum;
+            lngSum = parentLngSum;
+            counts = parentCounts;
+            categoryCounts = parentCategoryCounts;
+            facilityIds = parentFacilityIds;
+            keys = new long[parentCount];
+            System.arraycopy(parentKeys, 0, keys, 0, parentCount);
+            levels[zoom] = toLevel(latSum, lngSum, counts, categoryCounts, facilityIds);
+        }
+    }
+
+    // 화면 범위 안의 클러스터 조회 (중심점 기준)
+    // 범위가 그 줌에서 한 화면보다 크면 범위 중심을 기준으로 한 화면 크기만큼만 조회한다.
+    public void clusters(int zoom, double minLat, double maxLat, double minLng, double maxLng, ClusterConsumer consumer) {
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        Level level = levels[z];
+        double maxSpan = Math.min(1.0, (double) MAX_VIEWPORT_PX / ((long) TILE_PX << z)); // 정규 좌표(0~1) 기준
+
+        double west = toX(minLng);
+        double east = toX(maxLng);
+        if (east - west > maxSpan) {
+            double center = (west + east) / 2;
+            minLng = fromX(center - maxSpan / 2);
+            maxLng = fromX(center + maxSpan / 2);
+        }
+        double north = toY(maxLat); // y는 북쪽이 0
+        double south = toY(minLat);
+        if (south - north > maxSpan) {
+            double center = (north + south) / 2;
+            maxLat = fromY(center - maxSpan / 2);
+            minLat = fromY(center + maxSpan / 2);
+        }
+
+        IntConsumer each = c -> consumer.accept(level.lats[c], level.lngs[c], level.counts[c],
+                level.categories[c], level.facilityIds[c]);
+        level.tree.range(minLat, maxLat, minLng, maxLng, each);
+    }
+
+    // 웹 메르카토르 정규 좌표 (x: 서→동 0~1, y: 북→남 0~1)
+    private static double toX(double lng) {
+        return (lng + 180.0) / 360.0;
+    }
+
+    private static double fromX(double x) {
+        return x * 360.0 - 180.0;
+    }
+
+    private static double toY(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.max(-85.0511, Math.min(85.0511, lat))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private static double fromY(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+    }
+
+    private static Level toLevel(double[] latSum, double[] lngSum, int[] counts, int[][] categoryCounts, long[] facilityIds) {
+        int size = counts.length;
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        int[] dominant = new int[size];
+        long[] ids = new long[size];
+        for (int c = 0; c < size; c++) {
+            lats[c] = latSum[c] / counts[c];
+            lngs[c] = lngSum[c] / counts[c];
+            ids[c] = counts[c] == 1 ? facilityIds[c] : -1;
+
+            int best = -1;
+            for (int k = 0; k < categoryCounts[c].length; k++) {
+                if (categoryCounts[c][k] > 0 && (best < 0 || categoryCounts[c][k] > categoryCounts[c][best])) {
+                    best = k;
+                }
+            }
+            dominant[c] = best;
+        }
+        return new Level(lats, lngs, counts.clone(), dominant, ids);
+    }
+
+    // 웹 메르카토르 정규 좌표(0~1)를 해당 줌의 셀 번호로 변환해 하나의 long 키로 합침
+    private static long cellKey(double lat, double lng, int zoom) {
+        long cells = (long) CELLS_PER_TILE << zoom;
+        double x = toX(lng);
+        double y = toY(lat);
+        long cx = Math.min(cells - 1, Math.max(0, (long) Math.floor(x * cells)));
+        long cy = Math.min(cells - 1, Math.max(0, (long) Math.floor(y * cells)));
+        return (cx << 32) | cy;
+    }
+
+    private static long parentKey(long key) {
+        long cx = key >>> 32;
+        long cy = key & 0xFFFFFFFFL;
+        return ((cx >> 1) << 32) | (cy >> 1);
+    }
+}
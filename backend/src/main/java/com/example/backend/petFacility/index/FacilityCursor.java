@@ -0,0 +1,34 @@
+package com.example.backend.petFacility.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 이름순 키셋 페이지네이션 커서: 마지막으로 받은 시설의 (이름, id)
+// URL에 그대로 넣을 수 있도록 Base64(URL-safe)로 인코딩한다.
+@Getter
+@RequiredArgsConstructor
+public class FacilityCursor {
+
+    private static final char SEPARATOR = '\t';
+
+    private final String name; // null 가능 (이름 없는 시설은 정렬상 맨 앞)
+    private final long id;
+
+    public String encode() {
+        String payload = name == null ? Long.toString(id) : id + String.valueOf(SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰이면 IllegalArgumentException
+    public static FacilityCursor decode(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return new FacilityCursor(null, Long.parseLong(payload));
+        }
+        return new FacilityCursor(payload.substring(separator + 1), Long.parseLong(payload.substring(0, separator)));
+    }
+}
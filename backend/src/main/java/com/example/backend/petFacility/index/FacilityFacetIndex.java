@@ -0,0 +1,193 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+// 검색 필터용 열(column) 단위 패싯 인덱스
+// 필터 항목의 고유값마다 시설 ordinal 비트맵을 하나씩 만들어 두고,
+// 필터 조합은 비트맵 OR(같은 항목 안) / AND(항목 사이)로, 항목별 결과 수는 교집합 비트 수로 계산한다.
+// 문자열 조건은 기존 쿼리처럼 lower(x) LIKE '%값%' 의미라서, 검색어를 포함하는 고유값들의 비트맵을 OR 한다.
+public class FacilityFacetIndex {
+
+    public static final String CATEGORY2 = "category2";
+    public static final String PET_SIZE = "allowedPetSize";
+    public static final String SIDO = "sidoName";
+    public static final String SIGUNGU = "sigunguName";
+    public static final String PARKING = "parkingAvailable";
+    public static final String INDOOR = "indoorFacility";
+    public static final String OUTDOOR = "outdoorFacility";
+
+    private static final Map<String, Function<PetFacility, String>> TEXT_FACETS = new LinkedHashMap<>();
+
+    static {
+        TEXT_FACETS.put(CATEGORY2, PetFacility::getCategory2);
+        TEXT_FACETS.put(SIDO, PetFacility::getSidoName);
+        TEXT_FACETS.put(SIGUNGU, PetFacility::getSigunguName);
+        TEXT_FACETS.put(PARKING, PetFacility::getParkingAvailable);
+        TEXT_FACETS.put(INDOOR, PetFacility::getIndoorFacility);
+        TEXT_FACETS.put(OUTDOOR, PetFacility::getOutdoorFacility);
+    }
+
+    private final int size;
+    private final int words;
+    private final Map<String, Facet> facets; // 항목 이름 -> 고유값별 비트맵
+
+    // 한 필터 항목의 고유값과 값별 비트맵
+    private static class Facet {
+        private final String[] values;
+        private final String[] lowerValues;
+        private final long[][] bits;
+
+        private Facet(String[] values, long[][] bits) {
+            this.values = values;
+            this.lowerValues = Arrays.stream(values).map(String::toLowerCase).toArray(String[]::new);
+            this.bits = bits;
+        }
+    }
+
+    public FacilityFacetIndex(List<PetFacility> facilities, byte[] petSizeMasks) {
+        this.size = facilities.size();
+        this.words = (size + 63) >>> 6;
+        this.facets = new LinkedHashMap<>();
+
+        TEXT_FACETS.forEach((name, getter) -> {
+            Map<String, long[]> byValue = new TreeMap<>();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                String value = getter.apply(facilities.get(ordinal));
+                if (value != null) {
+                    set(byValue.computeIfAbsent(value, v -> new long[words]), ordinal);
+                }
+            }
+            facets.put(name, new Facet(byValue.keySet().toArray(new String[0]), byValue.values().toArray(new long[0][])));
+        });
+        facets.put(PET_SIZE, petSizeFacet(petSizeMasks));
+    }
+
+    private FacilityFacetIndex(FacilityFacetIndex source, byte[] petSizeMasks) {
+        this.size = source.size;
+        this.words = source.words;
+        this.facets = new LinkedHashMap<>(source.facets);
+        facets.put(PET_SIZE, petSizeFacet(petSizeMasks));
+    }
+
+    // 펫 사이즈 재분류 시 나머지 항목은 공유
+    public FacilityFacetIndex withPetSizeMasks(byte[] petSizeMasks) {
+        return new FacilityFacetIndex(this, petSizeMasks);
+    }
+
+    // 검색어를 제외한 필터 조건을 모두 만족하는 시설 (excludedFacet 항목은 무시)
+    public BitSet select(FacilityFilter filter, String excludedFacet) {
+        long[] result = new long[words];
+        Arrays.fill(result, -1L);
+        clearTail(result);
+
+        for (String name : facets.keySet()) {
+            if (name.equals(excludedFacet)) {
+                continue;
+            }
+            long[] condition = condition(name, filter);
+            if (condition != null) {
+                and(result, condition);
+            }
+        }
+        return BitSet.valueOf(result);
+    }
+
+    // 항목별 결과 수 (disjunctive: 각 항목은 자기 조건만 뺀 나머지 조건 기준으로 센다)
+    // base가 있으면(검색어 결과) 그 안에서만 센다. 결과가 0인 값은 생략.
+    public Map<String, Map<String, Integer>> counts(FacilityFilter filter, BitSet base) {
+        long[] baseWords = base == null ? null : Arrays.copyOf(base.toLongArray(), words);
+        Map<String, Map<String, Integer>> result = new LinkedHashMap<>();
+
+        facets.forEach((name, facet) -> {
+            long[] rest = Arrays.copyOf(select(filter, name).toLongArray(), words);
+            if (baseWords != null) {
+                and(rest, baseWords);
+            }
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int v = 0; v < facet.values.length; v++) {
+                int count = andCardinality(rest, facet.bits[v]);
+                if (count > 0) {
+                    counts.put(facet.values[v], count);
+                }
+            }
+            result.put(name, counts);
+        });
+        return result;
+    }
+
+    // 항목 하나의 조건 비트맵 (조건이 없으면 null)
+    private long[] condition(String name, FacilityFilter filter) {
+        Facet facet = facets.get(name);
+        return switch (name) {
+            case CATEGORY2 -> filter.getCategory2() == null ? null
+                    : union(facet, value -> filter.getCategory2().contains(facet.values[value]));
+            case PET_SIZE -> filter.getPetSizeMask() == null ? null
+                    : union(facet, value -> (filter.getPetSizeMask() & PetSizeClassifier.CATEGORY_BITS.get(facet.values[value])) != 0);
+            case SIDO -> containing(facet, filter.getSidoName());
+            case SIGUNGU -> containing(facet, filter.getSigunguName());
+            case PARKING -> containing(facet, filter.getParkingAvailable());
+            case INDOOR -> containing(facet, filter.getIndoorFacility());
+            case OUTDOOR -> containing(facet, filter.getOutdoorFacility());
+            default -> null;
+        };
+    }
+
+    // keyword(소문자)를 포함하는 고유값들의 OR
+    private long[] containing(Facet facet, String keyword) {
+        return keyword == null ? null : union(facet, value -> facet.lowerValues[value].contains(keyword));
+    }
+
+    private long[] union(Facet facet, IntPredicate selected) {
+        long[] result = new long[words];
+        for (int v = 0; v < facet.values.length; v++) {
+            if (selected.test(v)) {
+                long[] bits = facet.bits[v];
+                for (int w = 0; w < words; w++) {
+                    result[w] |= bits[w];
+                }
+            }
+        }
+        return result;
+    }
+
+    private Facet petSizeFacet(byte[] petSizeMasks) {
+        List<String> names = new ArrayList<>(new TreeSet<>(PetSizeClassifier.CATEGORY_BITS.keySet()));
+        long[][] bits = new long[names.size()][words];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            for (int n = 0; n < names.size(); n++) {
+                if ((petSizeMasks[ordinal] & PetSizeClassifier.CATEGORY_BITS.get(names.get(n))) != 0) {
+                    set(bits[n], ordinal);
+                }
+            }
+        }
+        return new Facet(names.toArray(new String[0]), bits);
+    }
+
+    private void clearTail(long[] bits) {
+        if (words > 0 && (size & 63) != 0) {
+            bits[words - 1] &= (1L << (size & 63)) - 1;
+        }
+    }
+
+    private static void set(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private static void and(long[] target, long[] other) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= other[w];
+        }
+    }
+
+    private static int andCardinality(long[] a, long[] b) {
+        int count = 0;
+        for (int w = 0; w < a.length; w++) {
+            count += Long.bitCount(a[w] & b[w]);
+        }
+        return count;
+    }
+}
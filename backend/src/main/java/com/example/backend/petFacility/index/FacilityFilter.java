@@ -0,0 +1,73 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// PetFacilityRepository의 JPQL 필터 조건을 메모리에서 그대로 평가하기 위한 조건 객체
+// 문자열 조건은 기존 쿼리와 같이 lower(x) LIKE '%값%' 의미로 비교
+// 검색어 외의 조건은 FacilityFacetIndex.select()가 비트맵으로 평가한다. (openAt은 FacilityOpeningHoursIndex)
+@Getter
+public class FacilityFilter {
+
+    private final String searchQuery;
+    private final boolean searchAddress; // true면 검색어를 주소/펫사이즈까지 매칭 (bounds/filtered 기준)
+    private final String sidoName;
+    private final String sigunguName;
+    private final Set<String> category2;
+    private final Integer petSizeMask; // PetSizeClassifier 비트 (null이면 조건 없음, 0이면 일치하는 시설 없음)
+    private final String parkingAvailable;
+    private final String indoorFacility;
+    private final String outdoorFacility;
+    private final LocalDateTime openAt; // 이 시각에 영업 중인 시설만 (null이면 조건 없음)
+    private final Double minRating; // 평균 평점 하한 (null이면 조건 없음, 스냅샷이 아닌 FacilityStatsService 집계로 평가)
+
+    @Builder
+    public FacilityFilter(String searchQuery, boolean searchAddress, String sidoName, String sigunguName,
+                          Set<String> category2, Integer petSizeMask,
+                          String parkingAvailable, String indoorFacility, String outdoorFacility,
+                          LocalDateTime openAt, Double minRating) {
+        this.searchQuery = lower(searchQuery);
+        this.searchAddress = searchAddress;
+        this.sidoName = lower(sidoName);
+        this.sigunguName = lower(sigunguName);
+        this.category2 = category2;
+        this.petSizeMask = petSizeMask;
+        this.parkingAvailable = lower(parkingAvailable);
+        this.indoorFacility = lower(indoorFacility);
+        this.outdoorFacility = lower(outdoorFacility);
+        this.openAt = openAt;
+        this.minRating = minRating;
+    }
+
+    public static FacilityFilter none() {
+        return FacilityFilter.builder().build();
+    }
+
+    // 검색어 조건만 평가 (나머지 조건은 FacilityFacetIndex 비트맵으로 처리)
+    public boolean matchesSearchQuery(PetFacility facility) {
+        if (searchQuery == null) {
+            return true;
+        }
+        if (containsValue(facility.getName(), searchQuery)
+                || containsValue(facility.getCategory2(), searchQuery)
+                || containsValue(facility.getCategory3(), searchQuery)) {
+            return true;
+        }
+        return searchAddress
+                && (containsValue(facility.getRoadAddress(), searchQuery)
+                || containsValue(facility.getJibunAddress(), searchQuery)
+                || containsValue(facility.getAllowedPetSize(), searchQuery));
+    }
+
+    private static boolean containsValue(String value, String keyword) {
+        return value != null && value.toLowerCase().contains(keyword);
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.*;
+
+// 초성 검색과 자모 단위 오타 허용 검색용 인덱스
+// - 초성: 시설명/주소 단어를 초성 문자열로 바꿔 접미사 배열에 넣어두고 "ㄱㅇㅈ" 같은 검색어를 접두어로 찾는다.
+// - 오타: 단어를 자모열로 풀고, 자모 하나씩 지운 변형을 미리 색인해 둔다(SymSpell 방식).
+//   검색어도 똑같이 한 글자씩 지워 조회하면 편집거리 1 이내 후보가 바로 나오므로 행을 훑지 않는다.
+public class FacilityJamoIndex {
+
+    private static final int MIN_FUZZY_LENGTH = 4;  // 이보다 짧은 자모열(한 음절 수준)은 오타 허용 안 함
+    private static final int MAX_TOKEN_LENGTH = 40; // 이보다 긴 단어는 삭제 변형을 만들지 않음
+
+    private final SortedSuffixIndex chosungNames;     // 시설명 초성, 모든 위치
+    private final SortedSuffixIndex chosungAddresses; // 도로명/지번 주소 초성, 단어 시작 위치
+
+    private final String[] tokens;          // 한글이 들어있는 고유 단어의 자모열
+    private final int[][] nameOwners;       // 단어별로 시설명에 그 단어가 있는 시설 ordinal
+    private final int[][] addressOwners;    // 단어별로 주소에 그 단어가 있는 시설 ordinal
+    private final Map<Long, int[]> deletes; // 자모열/삭제 변형 해시 -> 단어 번호
+
+    public FacilityJamoIndex(List<PetFacility> facilities) {
+        int size = facilities.size();
+        String[] nameTexts = new String[size];
+        int[] nameTextOwners = new int[size];
+        String[] addressTexts = new String[size * 2];
+        int[] addressTextOwners = new int[size * 2];
+        Map<String, IntList[]> tokenOwners = new LinkedHashMap<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            PetFacility facility = facilities.get(ordinal);
+            nameTexts[ordinal] = chosung(facility.getName());
+            nameTextOwners[ordinal] = ordinal;
+            addressTexts[ordinal * 2] = chosung(facility.getRoadAddress());
+            addressTexts[ordinal * 2 + 1] = chosung(facility.getJibunAddress());
+            addressTextOwners[ordinal * 2] = ordinal;
+            addressTextOwners[ordinal * 2 + 1] = ordinal;
+
+            addTokens(tokenOwners, facility.getName(), ordinal, 0);
+            addTokens(tokenOwners, facility.getRoadAddress(), ordinal, 1);
+            addTokens(tokenOwners, facility.getJibunAddress(), ordinal, 1);
+        }
+
+        this.chosungNames = new SortedSuffixIndex(nameTexts, nameTextOwners, false);
+        this.chosungAddresses = new SortedSuffixIndex(addressTexts, addressTextOwners, true);
+
+        this.tokens = tokenOwners.keySet().toArray(new String[0]);
+        this.nameOwners = new int[tokens.length][];
+        this.addressOwners = new int[tokens.length][];
+        Map<Long, IntList> building = new HashMap<>();
+        for (int t = 0; t < tokens.length; t++) {
+            IntList[] owners = tokenOwners.get(tokens[t]);
+            nameOwners[t] = distinct(owners[0]);
+            addressOwners[t] = distinct(owners[1]);
+
+            String token = tokens[t];
+            building.computeIfAbsent(hash(token, -1), h -> new IntList()).add(t);
+            if (token.length() >= MIN_FUZZY_LENGTH && token.length() <= MAX_TOKEN_LENGTH) {
+                for (int i = 0; i < token.length(); i++) {
+                    // 같은 글자가 연속되면 삭제 결과가 같으므로 한 번만 등록
+                    if (i > 0 && token.charAt(i) == token.charAt(i - 1)) {
+                        continue;
+                    }
+                    building.computeIfAbsent(hash(token, i), h -> new IntList()).add(t);
+                }
+            }
+        }
+        this.deletes = new HashMap<>(building.size() * 2);
+        building.forEach((h, list) -> deletes.put(h, list.toArray()));
+    }
+
+    // 초성 검색: 시설명 초성 접두 > 시설명 초성 포함 > 주소 단어 초성 접두, 같은 단계는 이름순
+    public int[] suggestChosung(String query, int limit) {
+        String keyword = query.trim();
+        RankedSelector ranking = new RankedSelector(limit);
+
+        ranking.nextTier();
+        chosungNames.forEachMatch(keyword, (ordinal, offset) -> {
+            if (offset == 0) ranking.offer(ordinal);
+        });
+
+        ranking.nextTier();
+        chosungNames.forEachMatch(keyword, (ordinal, offset) -> {
+            if (offset > 0) ranking.offer(ordinal);
+        });
+
+        ranking.nextTier();
+        chosungAddresses.forEachMatch(keyword, (ordinal, offset) -> ranking.offer(ordinal));
+
+        return ranking.result();
+    }
+
+    // 오타 허용 검색: 검색어의 모든 단어가 자모 편집거리 1 이내로 시설명(1단계) 또는 시설명/주소(2단계)에 있는 시설
+    public int[] suggestFuzzy(String query, int limit) {
+        String[] words = query.trim().toLowerCase().split("\\s+");
+        BitSet inName = null;
+        BitSet inAny = null;
+
+        for (String word : words) {
+            BitSet wordInName = new BitSet();
+            BitSet wordInAny = new BitSet();
+            for (int t : candidates(HangulJamo.toJamo(word))) {
+                for (int ordinal : nameOwners[t]) {
+                    wordInName.set(ordinal);
+                    wordInAny.set(ordinal);
+                }
+                for (int ordinal : addressOwners[t]) {
+                    wordInAny.set(ordinal);
+                }
+            }
+            if (inName == null) {
+                inName = wordInName;
+                inAny = wordInAny;
+            } else {
+                inName.and(wordInName);
+                inAny.and(wordInAny);
+            }
+        }
+
+        RankedSelector ranking = new RankedSelector(limit);
+        if (inName == null) {
+            return ranking.result();
+        }
+        ranking.nextTier();
+        inName.stream().forEach(ranking::offer);
+        ranking.nextTier();
+        inAny.stream().forEach(ranking::offer);
+        return ranking.result();
+    }
+
+    // 자모열 word와 편집거리 1 이내인 단어 번호 (짧은 검색어는 완전 일치만)
+    private Set<Integer> candidates(String word) {
+        int maxDistance = word.length() >= MIN_FUZZY_LENGTH ? 1 : 0;
+        Set<Integer> result = new HashSet<>();
+        collect(result, hash(word, -1), word, maxDistance);
+        if (maxDistance > 0) {
+            for (int i = 0; i < word.length(); i++) {
+                collect(result, hash(word, i), word, maxDistance);
+            }
+        }
+        return result;
+    }
+
+    private void collect(Set<Integer> result, long key, String word, int maxDistance) {
+        int[] found = deletes.get(key);
+        if (found == null) {
+            return;
+        }
+        for (int t : found) {
+            // 해시 충돌과 편집거리 2짜리 후보(양쪽에서 다른 글자를 지운 경우)를 걸러낸다
+            if (!result.contains(t) && withinOneEdit(word, tokens[t], maxDistance)) {
+                result.add(t);
+            }
+        }
+    }
+
+    // 치환/삽입/삭제/인접 글자 교환 한 번 이내인지
+    static boolean withinOneEdit(String a, String b, int maxDistance) {
+        if (a.equals(b)) {
+            return true;
+        }
+        if (maxDistance == 0 || Math.abs(a.length() - b.length()) > 1) {
+            return false;
+        }
+        int prefix = 0;
+        int min = Math.min(a.length(), b.length());
+        while (prefix < min && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        if (a.length() != b.length()) {
+            String longer = a.length() > b.length() ? a : b;
+            String shorter = a.length() > b.length() ? b : a;
+            return longer.regionMatches(prefix + 1, shorter, prefix, shorter.length() - prefix);
+        }
+        if (a.regionMatches(prefix + 1, b, prefix + 1, a.length() - prefix - 1)) {
+            return true;
+        }
+        return prefix + 1 < a.length()
+                && a.charAt(prefix) == b.charAt(prefix + 1)
+                && a.charAt(prefix + 1) == b.charAt(prefix)
+                && a.regionMatches(prefix + 2, b, prefix + 2, a.length() - prefix - 2);
+    }
+
+    private static void addTokens(Map<String, IntList[]> tokenOwners, String text, int ordinal, int field) {
+        if (text == null) {
+            return;
+        }
+        for (String word : text.toLowerCase().split("\\s+")) {
+            if (!containsSyllable(word)) {
+                continue;
+            }
+            tokenOwners.computeIfAbsent(HangulJamo.toJamo(word), w -> new IntList[]{new IntList(), new IntList()})[field]
+                    .add(ordinal);
+        }
+    }
+
+    private static boolean containsSyllable(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (HangulJamo.isSyllable(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String chosung(String text) {
+        return text == null ? null : HangulJamo.toChosung(text);
+    }
+
+    // ordinal 순으로 추가되므로 인접 중복만 제거하면 된다
+    private static int[] distinct(IntList list) {
+        return Arrays.stream(list.toArray()).distinct().toArray();
+    }
+
+    // skip 위치의 글자를 뺀 문자열의 64비트 해시 (FNV-1a, skip < 0이면 원문 그대로)
+    // 삭제 변형 문자열을 실제로 만들지 않아 색인 메모리를 줄인다
+    private static long hash(String text, int skip) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            if (i == skip) {
+                continue;
+            }
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
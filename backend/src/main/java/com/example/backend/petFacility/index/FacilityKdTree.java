@@ -0,0 +1,204 @@
+package com.example.backend.petFacility.index;
+
+import java.util.PriorityQueue;
+import java.util.function.IntConsumer;
+
+// 위도/경도 2차원 KD-트리 (정적, 배열 기반)
+// 노드를 따로 만들지 않고 구간 [lo, hi)의 중앙값이 곧 노드가 되는 암시적 트리 구조
+public class FacilityKdTree {
+
+    private final int[] ordinals;   // 트리 순서로 재배치된 시설 ordinal
+    private final double[] lats;    // ordinals와 같은 순서의 위도
+    private final double[] lngs;    // ordinals와 같은 순서의 경도
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    // 가까운 순 탐색 콜백 (false를 반환하면 탐색 중단)
+    public interface NeighborConsumer {
+        boolean accept(int ordinal, double distanceMeters);
+    }
+
+    // 최근접 탐색 대기열 항목: 하위 트리(구간 + 경계 상자) 또는 시설 하나
+    private record Candidate(double distance, int lo, int hi, int depth,
+                             double minLat, double maxLat, double minLng, double maxLng, int point) {
+    }
+
+    public FacilityKdTree(double[] latitudes, double[] longitudes) {
+        int size = latitudes.length;
+        this.ordinals = new int[size];
+        for (int i = 0; i < size; i++) {
+            ordinals[i] = i;
+        }
+        build(latitudes, longitudes, 0, size, 0);
+
+        // 탐색 시 캐시 효율을 위해 좌표도 트리 순서로 복사
+        this.lats = new double[size];
+        this.lngs = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = latitudes[ordinals[i]];
+            lngs[i] = longitudes[ordinals[i]];
+        }
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    // 범위 안에 있는 시설 ordinal을 consumer로 전달 (순서는 보장하지 않음)
+    public void range(double minLat, double maxLat, double minLng, double maxLng, IntConsumer consumer) {
+        range(0, ordinals.length, 0, minLat, maxLat, minLng, maxLng, consumer);
+    }
+
+    private void range(int lo, int hi, int depth,
+                       double minLat, double maxLat, double minLng, double maxLng,
+                       IntConsumer consumer) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double lat = lats[mid];
+        double lng = lngs[mid];
+
+        if (lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng) {
+            consumer.accept(ordinals[mid]);
+        }
+
+        boolean latAxis = (depth & 1) == 0;
+        double split = latAxis ? lat : lng;
+        double min = latAxis ? minLat : minLng;
+        double max = latAxis ? maxLat : maxLng;
+
+        if (min <= split) {
+            range(lo, mid, depth + 1, minLat, maxLat, minLng, maxLng, consumer);
+        }
+        if (max >= split) {
+            range(mid + 1, hi, depth + 1, minLat, maxLat, minLng, maxLng, consumer);
+        }
+    }
+
+    // 가까운 시설부터 차례로 consumer에 전달 (best-first 탐색)
+    // 하위 트리는 경계 상자까지의 최소 거리, 시설은 실제 거리로 같은 우선순위 큐에 넣기 때문에
+    // 큐에서 시설이 나오는 순서가 곧 거리순이다. 필터에 걸러지는 시설이 있어도 필요한 만큼만 더 펼친다.
+    public void nearest(double lat, double lng, double maxDistanceMeters, NeighborConsumer consumer) {
+        PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> Double.compare(a.distance(), b.distance()));
+        if (!isEmpty()) {
+            queue.add(new Candidate(0, 0, ordinals.length, 0, -90, 90, -180, 180, -1));
+        }
+
+        while (!queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            if (candidate.distance() > maxDistanceMeters) {
+                return;
+            }
+            if (candidate.point() >= 0) {
+                if (!consumer.accept(ordinals[candidate.point()], candidate.distance())) {
+                    return;
+                }
+                continue;
+            }
+
+            int lo = candidate.lo();
+            int hi = candidate.hi();
+            int mid = (lo + hi) >>> 1;
+            queue.add(new Candidate(haversineMeters(lat, lng, lats[mid], lngs[mid]),
+                    0, 0, 0, 0, 0, 0, 0, mid));
+
+            boolean latAxis = (candidate.depth() & 1) == 0;
+            double split = latAxis ? lats[mid] : lngs[mid];
+            if (lo < mid) {
+                addSubtree(queue, lat, lng, lo, mid, candidate.depth() + 1,
+                        candidate.minLat(), latAxis ? split : candidate.maxLat(),
+                        candidate.minLng(), latAxis ? candidate.maxLng() : split);
+            }
+            if (mid + 1 < hi) {
+                addSubtree(queue, lat, lng, mid + 1, hi, candidate.depth() + 1,
+                        latAxis ? split : candidate.minLat(), candidate.maxLat(),
+                        latAxis ? candidate.minLng() : split, candidate.maxLng());
+            }
+        }
+    }
+
+    private boolean isEmpty() {
+        return ordinals.length == 0;
+    }
+
+    private static void addSubtree(PriorityQueue<Candidate> queue, double lat, double lng,
+                                   int lo, int hi, int depth,
+                                   double minLat, double maxLat, double minLng, double maxLng) {
+        queue.add(new Candidate(minDistanceMeters(lat, lng, minLat, maxLat, minLng, maxLng),
+                lo, hi, depth, minLat, maxLat, minLng, maxLng, -1));
+    }
+
+    // 상자 안 어떤 점까지의 거리보다도 작거나 같은 값 (하한)
+    // 기준점을 상자 안으로 옮긴 점까지의 거리는 경선이 극으로 모이기 때문에 하한이 아니다.
+    // (상자의 위도가 높은 쪽 모서리가 더 가까울 수 있음)
+    // haversine 식 hav(d) = hav(Δ위도) + cos(위도1)cos(위도2)hav(Δ경도)의 각 항을 따로 최소로 잡는다:
+    // 위도 차이·경도 차이는 상자까지의 최소 간격, cos(위도2)는 상자에서 가장 극에 가까운 위도의 값.
+    static double minDistanceMeters(double lat, double lng,
+                                    double minLat, double maxLat, double minLng, double maxLng) {
+        double latGap = lat < minLat ? minLat - lat : lat > maxLat ? lat - maxLat : 0;
+        // 날짜변경선을 넘어 상자의 반대쪽 모서리로 가는 편이 더 가까울 수도 있다
+        double lngGap = lng < minLng ? Math.min(minLng - lng, 360 - (maxLng - lng))
+                : lng > maxLng ? Math.min(lng - maxLng, 360 - (lng - minLng)) : 0;
+        double maxAbsLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+
+        double sinLat = Math.sin(Math.toRadians(latGap) / 2);
+        double sinLng = Math.sin(Math.toRadians(lngGap) / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(maxAbsLat)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 두 좌표 사이 대권 거리 (미터)
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 구간의 중앙값을 기준으로 재귀적으로 분할 (짝수 깊이: 위도, 홀수 깊이: 경도)
+    private void build(double[] latitudes, double[] longitudes, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double[] axis = (depth & 1) == 0 ? latitudes : longitudes;
+        select(axis, lo, hi - 1, mid);
+        build(latitudes, longitudes, lo, mid, depth + 1);
+        build(latitudes, longitudes, mid + 1, hi, depth + 1);
+    }
+
+    // quickselect: k번째 위치에 중앙값을 두고 왼쪽은 작거나 같은 값, 오른쪽은 크거나 같은 값으로 정리
+    private void select(double[] axis, int left, int right, int k) {
+        while (right > left) {
+            int pivotIndex = (left + right) >>> 1;
+            double pivot = axis[ordinals[pivotIndex]];
+            swap(pivotIndex, right);
+            int store = left;
+            for (int i = left; i < right; i++) {
+                if (axis[ordinals[i]] < pivot) {
+                    swap(store, i);
+                    store++;
+                }
+            }
+            swap(right, store);
+
+            if (store == k) {
+                return;
+            } else if (k < store) {
+                right = store - 1;
+            } else {
+                left = store + 1;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int tmp = ordinals[i];
+        ordinals[i] = ordinals[j];
+        ordinals[j] = tmp;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 시설별 영업 일정 인덱스
+// 운영시간/휴무일 문구 조합은 시설 수보다 훨씬 적어서(약 2천 종) 조합마다 한 번만 파싱해 두고,
+// "지금 영업 중" 조회는 조합별로 한 번씩 판정한 뒤 시설마다 자기 조합의 판정 결과만 확인한다.
+// 운영시간을 알 수 없는 시설(정보없음 등)은 영업 중으로 보지 않는다.
+public class FacilityOpeningHoursIndex {
+
+    private final List<OpeningHours> schedules; // 파싱된 고유 일정
+    private final int[] scheduleIds;            // 시설별 schedules 번호 (-1: 운영시간 모름)
+
+    public FacilityOpeningHoursIndex(List<PetFacility> facilities) {
+        this.scheduleIds = new int[facilities.size()];
+        this.schedules = new ArrayList<>();
+        Map<String, Integer> idByText = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < facilities.size(); ordinal++) {
+            PetFacility facility = facilities.get(ordinal);
+            String key = facility.getOperatingHours() + '\u0001' + facility.getHoliday();
+            Integer id = idByText.get(key);
+            if (id == null) {
+                OpeningHours hours = OpeningHours.parse(facility.getOperatingHours(), facility.getHoliday());
+                id = hours == null ? -1 : schedules.size();
+                idByText.put(key, id);
+                if (hours != null) {
+                    schedules.add(hours);
+                }
+            }
+            scheduleIds[ordinal] = id;
+        }
+    }
+
+    // 주어진 시각에 영업 중인 시설
+    public BitSet openAt(LocalDateTime time) {
+        boolean[] open = new boolean[schedules.size()];
+        for (int s = 0; s < open.length; s++) {
+            open[s] = schedules.get(s).isOpenAt(time);
+        }
+        BitSet result = new BitSet(scheduleIds.length);
+        for (int ordinal = 0; ordinal < scheduleIds.length; ordinal++) {
+            int id = scheduleIds[ordinal];
+            if (id >= 0 && open[id]) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.FacilityStats;
+
+// 시설 평점 요약 (facility_stats 한 행의 메모리 사본)
+public record FacilityRating(int reviewCount, int ratingSum) {
+
+    public static final FacilityRating NONE = new FacilityRating(0, 0);
+
+    public static FacilityRating of(FacilityStats stats) {
+        return new FacilityRating(stats.getReviewCount(), stats.getRatingSum());
+    }
+
+    // 소수 첫째자리 반올림 평균 (리뷰가 없으면 0.0) - 화면 표시, minRating 필터, 평점순 정렬 모두 이 값 기준
+    public double average() {
+        return reviewCount <= 0 ? 0.0 : Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
+    }
+}
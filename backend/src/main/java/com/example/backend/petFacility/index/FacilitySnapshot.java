@@ -0,0 +1,286 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+// 시설 전체를 메모리에 올려둔 읽기 전용 스냅샷
+// 시설은 (이름, id) 순으로 정렬되어 ordinal이 부여되므로, ordinal 오름차순 = 기존 ORDER BY pf.name 결과 순서
+public class FacilitySnapshot {
+
+    public static final Comparator<PetFacility> NAME_ORDER = Comparator
+            .comparing(PetFacility::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(PetFacility::getId);
+
+    // 스냅샷 버전 (재시작 전에 발급한 토큰과 겹치지 않도록 기동 시각에서 시작)
+    private static final AtomicLong VERSIONS = new AtomicLong(System.currentTimeMillis());
+
+    private final long version = VERSIONS.incrementAndGet();
+    private final List<PetFacility> facilities;
+    private final Map<Long, Integer> ordinalById;
+    private final FacilityKdTree spatialIndex;
+    private final long[] fingerprints; // 시설 내용 해시 (변경 감지용)
+    private final List<String> categories; // category2 사전 (정렬된 고유값)
+    private final FacilityClusterIndex clusterIndex;
+    private final FacilityTextIndex textIndex;
+    private final FacilitySuggestionIndex suggestionIndex;
+    private final FacilityJamoIndex jamoIndex;
+
+    // 펫 사이즈 분류 (allowedPetSize 고유값 단위로 한 번만 분류해서 시설별 비트마스크로 보관)
+    private final List<String> petSizeValues;  // allowedPetSize 고유값
+    private final int[] petSizeValueIds;       // 시설별 petSizeValues 번호 (-1: 값 없음)
+    private final byte[] petSizeMasksByValue;  // 고유값별 PetSizeClassifier 비트마스크
+    private final byte[] petSizeMasks;         // 시설별 비트마스크
+    private final FacilityFacetIndex facetIndex;
+    private final FacilityOpeningHoursIndex openingHoursIndex;
+
+    private FacilitySnapshot(List<PetFacility> facilities, PetSizeClassifier classifier) {
+        this.facilities = facilities;
+        this.ordinalById = new HashMap<>(facilities.size() * 2);
+        this.fingerprints = new long[facilities.size()];
+        this.categories = facilities.stream()
+                .map(PetFacility::getCategory2)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+
+        Map<String, Integer> categoryIndex = new HashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            categoryIndex.put(categories.get(i), i);
+        }
+
+        double[] lats = new double[facilities.size()];
+        double[] lngs = new double[facilities.size()];
+        int[] categoryOrdinals = new int[facilities.size()];
+        long[] ids = new long[facilities.size()];
+        for (int i = 0; i < facilities.size(); i++) {
+            PetFacility facility = facilities.get(i);
+            ordinalById.put(facility.getId(), i);
+            lats[i] = facility.getLatitude();
+            lngs[i] = facility.getLongitude();
+            categoryOrdinals[i] = facility.getCategory2() == null ? -1 : categoryIndex.get(facility.getCategory2());
+            ids[i] = facility.getId();
+            fingerprints[i] = fingerprint(facility);
+        }
+        this.spatialIndex = new FacilityKdTree(lats, lngs);
+        this.clusterIndex = new FacilityClusterIndex(lats, lngs, categoryOrdinals, categories.size(), ids);
+        this.textIndex = new FacilityTextIndex(facilities);
+        this.suggestionIndex = new FacilitySuggestionIndex(facilities);
+        this.jamoIndex = new FacilityJamoIndex(facilities);
+
+        this.petSizeValues = facilities.stream()
+                .map(PetFacility::getAllowedPetSize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, Integer> petSizeIndex = new HashMap<>();
+        for (int i = 0; i < petSizeValues.size(); i++) {
+            petSizeIndex.put(petSizeValues.get(i), i);
+        }
+        this.petSizeValueIds = new int[facilities.size()];
+        for (int i = 0; i < facilities.size(); i++) {
+            String value = facilities.get(i).getAllowedPetSize();
+            petSizeValueIds[i] = value == null ? -1 : petSizeIndex.get(value);
+        }
+        this.petSizeMasksByValue = classifyValues(petSizeValues, classifier);
+        this.petSizeMasks = expandMasks(petSizeValueIds, petSizeMasksByValue);
+        this.facetIndex = new FacilityFacetIndex(facilities, petSizeMasks);
+        this.openingHoursIndex = new FacilityOpeningHoursIndex(facilities);
+    }
+
+    // 펫 사이즈 재분류용: 다른 인덱스는 그대로 공유하고 분류 결과만 바꾼 스냅샷
+    private FacilitySnapshot(FacilitySnapshot source, PetSizeClassifier classifier) {
+        this.facilities = source.facilities;
+        this.ordinalById = source.ordinalById;
+        this.spatialIndex = source.spatialIndex;
+        this.fingerprints = source.fingerprints;
+        this.categories = source.categories;
+        this.clusterIndex = source.clusterIndex;
+        this.textIndex = source.textIndex;
+        this.suggestionIndex = source.suggestionIndex;
+        this.jamoIndex = source.jamoIndex;
+        this.petSizeValues = source.petSizeValues;
+        this.petSizeValueIds = source.petSizeValueIds;
+        this.petSizeMasksByValue = classifyValues(petSizeValues, classifier);
+        this.petSizeMasks = expandMasks(petSizeValueIds, petSizeMasksByValue);
+        this.facetIndex = source.facetIndex.withPetSizeMasks(petSizeMasks);
+        this.openingHoursIndex = source.openingHoursIndex;
+    }
+
+    public FacilitySnapshot withPetSizeClassifier(PetSizeClassifier classifier) {
+        return new FacilitySnapshot(this, classifier);
+    }
+
+    public static FacilitySnapshot of(Collection<PetFacility> rows, PetSizeClassifier classifier) {
+        List<PetFacility> sorted = new ArrayList<>(rows);
+        sorted.sort(NAME_ORDER);
+        return new FacilitySnapshot(Collections.unmodifiableList(sorted), classifier);
+    }
+
+    public static FacilitySnapshot empty() {
+        return of(List.of(), PetSizeClassifier.defaults());
+    }
+
+    public int size() {
+        return facilities.size();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public PetFacility get(int ordinal) {
+        return facilities.get(ordinal);
+    }
+
+    public List<PetFacility> getFacilities() {
+        return facilities;
+    }
+
+    public Optional<PetFacility> findById(Long id) {
+        Integer ordinal = ordinalById.get(id);
+        return ordinal == null ? Optional.empty() : Optional.of(facilities.get(ordinal));
+    }
+
+    public long getFingerprint(int ordinal) {
+        return fingerprints[ordinal];
+    }
+
+    public Integer ordinalOf(Long id) {
+        return ordinalById.get(id);
+    }
+
+    // 커서(이름, id) 바로 다음 ordinal
+    // 커서 시설이 그대로 있으면 위치를 바로 찾고, 삭제/이름 변경된 경우에는 이름순 이진 탐색
+    public int seekAfter(FacilityCursor cursor) {
+        Integer ordinal = ordinalById.get(cursor.getId());
+        if (ordinal != null && Objects.equals(facilities.get(ordinal).getName(), cursor.getName())) {
+            return ordinal + 1;
+        }
+        Comparator<String> names = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+        int lo = 0;
+        int hi = facilities.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            PetFacility facility = facilities.get(mid);
+            int cmp = names.compare(facility.getName(), cursor.getName());
+            if (cmp == 0) {
+                cmp = Long.compare(facility.getId(), cursor.getId());
+            }
+            if (cmp <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public FacilityClusterIndex getClusterIndex() {
+        return clusterIndex;
+    }
+
+    public FacilityTextIndex getTextIndex() {
+        return textIndex;
+    }
+
+    public FacilitySuggestionIndex getSuggestionIndex() {
+        return suggestionIndex;
+    }
+
+    public FacilityJamoIndex getJamoIndex() {
+        return jamoIndex;
+    }
+
+    public FacilityFacetIndex getFacetIndex() {
+        return facetIndex;
+    }
+
+    public FacilityOpeningHoursIndex getOpeningHoursIndex() {
+        return openingHoursIndex;
+    }
+
+    // 검색어를 제외한 필터 조건(패싯 + 영업시간)을 모두 만족하는 시설
+    public BitSet select(FacilityFilter filter) {
+        BitSet selected = facetIndex.select(filter, null);
+        if (filter.getOpenAt() != null) {
+            selected.and(openingHoursIndex.openAt(filter.getOpenAt()));
+        }
+        return selected;
+    }
+
+    public int getPetSizeMask(int ordinal) {
+        return petSizeMasks[ordinal];
+    }
+
+    // 비트마스크에 해당하는 allowedPetSize 원본 값 (DB 조회 조건용)
+    public Set<String> petSizeValuesMatching(int mask) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < petSizeValues.size(); i++) {
+            if ((petSizeMasksByValue[i] & mask) != 0) {
+                result.add(petSizeValues.get(i));
+            }
+        }
+        return result;
+    }
+
+    // 범위 안 시설의 ordinal을 이름순으로 반환
+    public int[] inBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        IntStream.Builder builder = IntStream.builder();
+        spatialIndex.range(minLat, maxLat, minLng, maxLng, builder);
+        return builder.build().sorted().toArray();
+    }
+
+    private static byte[] classifyValues(List<String> values, PetSizeClassifier classifier) {
+        byte[] masks = new byte[values.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = (byte) classifier.classify(values.get(i));
+        }
+        return masks;
+    }
+
+    private static byte[] expandMasks(int[] valueIds, byte[] masksByValue) {
+        byte[] masks = new byte[valueIds.length];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = valueIds[i] < 0 ? 0 : masksByValue[valueIds[i]];
+        }
+        return masks;
+    }
+
+    // 기준 좌표에서 가까운 시설부터 차례로 전달 (maxDistanceMeters를 넘으면 중단)
+    public void nearest(double lat, double lng, double maxDistanceMeters, FacilityKdTree.NeighborConsumer consumer) {
+        spatialIndex.nearest(lat, lng, maxDistanceMeters, consumer);
+    }
+
+    // id를 제외한 모든 컬럼의 64비트 해시 (FNV-1a)
+    public static long fingerprint(PetFacility f) {
+        Object[] values = {
+                f.getName(), f.getCategory1(), f.getCategory2(), f.getCategory3(),
+                f.getSidoName(), f.getSigunguName(), f.getLegalEupMyeonDongName(), f.getRiName(),
+                f.getBunji(), f.getRoadName(), f.getBuildingNumber(), f.getLatitude(), f.getLongitude(),
+                f.getPostalCode(), f.getRoadAddress(), f.getJibunAddress(), f.getPhoneNumber(),
+                f.getHomepage(), f.getHoliday(), f.getOperatingHours(), f.getParkingAvailable(),
+                f.getAdmissionFeeInfo(), f.getPetFriendlyInfo(), f.getPetOnlyInfo(), f.getAllowedPetSize(),
+                f.getPetRestrictions(), f.getIndoorFacility(), f.getOutdoorFacility(), f.getDescription(),
+                f.getAdditionalPetFee(), f.getFinalCreationDate()
+        };
+        long hash = 0xcbf29ce484222325L;
+        for (Object value : values) {
+            String text = value == null ? "\u0000" : value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                hash ^= text.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= 0x1F; // 컬럼 구분자
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 검색창 자동완성용 접두어 인덱스
+// 기존 findSearchSuggestions 쿼리와 같은 순위 단계를 유지한다.
+//   1. 시설명이 검색어로 시작
+//   2. 시설명에 검색어 포함
+//   3. category2가 검색어로 시작
+//   4. 그 외 (category2 포함, 도로명/지번 주소의 단어가 검색어로 시작)
+// 같은 단계 안에서는 이름순이며, 단계별로 상위 limit개만 고르므로 결과 목록 전체를 만들거나 정렬하지 않는다.
+public class FacilitySuggestionIndex {
+
+    private final SortedSuffixIndex names;      // 시설명의 모든 위치
+    private final SortedSuffixIndex addresses;  // 도로명/지번 주소의 단어 시작 위치
+    private final List<String> categories;      // 소문자 category2 고유값
+    private final int[][] categoryMembers;      // 카테고리별 시설 ordinal (오름차순)
+
+    public FacilitySuggestionIndex(List<PetFacility> facilities) {
+        int size = facilities.size();
+        String[] nameTexts = new String[size];
+        int[] nameOwners = new int[size];
+        String[] addressTexts = new String[size * 2];
+        int[] addressOwners = new int[size * 2];
+        Map<String, IntList> members = new TreeMap<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            PetFacility facility = facilities.get(ordinal);
+            nameTexts[ordinal] = lower(facility.getName());
+            nameOwners[ordinal] = ordinal;
+            addressTexts[ordinal * 2] = lower(facility.getRoadAddress());
+            addressTexts[ordinal * 2 + 1] = lower(facility.getJibunAddress());
+            addressOwners[ordinal * 2] = ordinal;
+            addressOwners[ordinal * 2 + 1] = ordinal;
+            if (facility.getCategory2() != null) {
+                members.computeIfAbsent(lower(facility.getCategory2()), c -> new IntList()).add(ordinal);
+            }
+        }
+
+        this.names = new SortedSuffixIndex(nameTexts, nameOwners, false);
+        this.addresses = new SortedSuffixIndex(addressTexts, addressOwners, true);
+        this.categories = new ArrayList<>(members.keySet());
+        this.categoryMembers = members.values().stream().map(IntList::toArray).toArray(int[][]::new);
+    }
+
+    // 순위 단계 순서대로 최대 limit개의 시설 ordinal 반환
+    public int[] suggest(String query, int limit) {
+        String keyword = query.toLowerCase();
+        RankedSelector ranking = new RankedSelector(limit);
+
+        ranking.nextTier();
+        names.forEachMatch(keyword, (ordinal, offset) -> {
+            if (offset == 0) ranking.offer(ordinal);
+        });
+
+        ranking.nextTier();
+        names.forEachMatch(keyword, (ordinal, offset) -> {
+            if (offset > 0) ranking.offer(ordinal);
+        });
+
+        ranking.nextTier();
+        for (int c = 0; c < categories.size(); c++) {
+            if (categories.get(c).startsWith(keyword)) {
+                ranking.offerSorted(categoryMembers[c]);
+            }
+        }
+
+        ranking.nextTier();
+        for (int c = 0; c < categories.size(); c++) {
+            String category = categories.get(c);
+            if (!category.startsWith(keyword) && category.contains(keyword)) {
+                ranking.offerSorted(categoryMembers[c]);
+            }
+        }
+        addresses.forEachMatch(keyword, (ordinal, offset) -> ranking.offer(ordinal));
+
+        return ranking.result();
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+}
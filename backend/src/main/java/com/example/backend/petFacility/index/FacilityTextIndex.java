@@ -0,0 +1,147 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+// 시설 통합검색용 바이그램(2-gram) 역색인
+// 한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않아서, 글자 2개 단위로 잘라 색인한다.
+// 검색어의 바이그램 목록을 모두 가진 시설만 후보로 뽑고, 실제로 검색어를 포함하는지 다시 확인하므로
+// 결과는 기존 lower(x) LIKE '%검색어%' 조건과 같다.
+public class FacilityTextIndex {
+
+    // 검색 대상 필드와 관련도 가중치
+    private static final List<Function<PetFacility, String>> FIELDS = List.of(
+            PetFacility::getName,
+            PetFacility::getCategory2,
+            PetFacility::getCategory3,
+            PetFacility::getRoadAddress,
+            PetFacility::getJibunAddress,
+            PetFacility::getBunji,
+            PetFacility::getRoadName,
+            PetFacility::getAllowedPetSize,
+            PetFacility::getDescription
+    );
+    private static final int[] WEIGHTS = {10, 6, 6, 3, 3, 2, 3, 1, 1};
+    private static final int NAME = 0;
+
+    private final String[][] texts;              // [ordinal][field] 소문자 변환된 필드 값
+    private final Map<Integer, int[]> postings;  // 바이그램 -> 시설 ordinal (오름차순)
+
+    public FacilityTextIndex(List<PetFacility> facilities) {
+        int size = facilities.size();
+        this.texts = new String[size][];
+        Map<Integer, IntList> building = new HashMap<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            PetFacility facility = facilities.get(ordinal);
+            String[] fields = new String[FIELDS.size()];
+            for (int f = 0; f < fields.length; f++) {
+                String value = FIELDS.get(f).apply(facility);
+                fields[f] = value == null ? null : value.toLowerCase();
+            }
+            texts[ordinal] = fields;
+
+            // 시설 하나 안에서는 같은 바이그램을 한 번만 등록
+            for (int gram : distinctBigrams(fields)) {
+                building.computeIfAbsent(gram, g -> new IntList()).add(ordinal);
+            }
+        }
+
+        this.postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+    }
+
+    // 검색어를 포함하는 시설 ordinal 목록 (오름차순 = 이름순)
+    public int[] match(String query) {
+        String keyword = query.toLowerCase();
+        if (keyword.length() < 2) {
+            // 한 글자 검색어는 바이그램이 없으므로 전체 확인
+            return IntStream.range(0, texts.length)
+                    .filter(ordinal -> contains(ordinal, keyword))
+                    .toArray();
+        }
+
+        int[] grams = distinctBigrams(new String[]{keyword});
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        // 가장 짧은 목록부터 교집합
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        return Arrays.stream(candidates)
+                .filter(ordinal -> contains(ordinal, keyword))
+                .toArray();
+    }
+
+    // 관련도 점수: 검색어가 들어있는 필드 가중치 합 + 시설명 일치/접두 가산점
+    public int score(int ordinal, String query) {
+        String keyword = query.toLowerCase();
+        String[] fields = texts[ordinal];
+        int score = 0;
+        for (int f = 0; f < fields.length; f++) {
+            if (fields[f] != null && fields[f].contains(keyword)) {
+                score += WEIGHTS[f];
+            }
+        }
+        String name = fields[NAME];
+        if (name != null) {
+            if (name.equals(keyword)) {
+                score += 20;
+            } else if (name.startsWith(keyword)) {
+                score += 10;
+            }
+        }
+        return score;
+    }
+
+    private boolean contains(int ordinal, String keyword) {
+        for (String field : texts[ordinal]) {
+            if (field != null && field.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 각 필드 안에서만 바이그램을 만든다 (필드 경계를 넘는 조합은 만들지 않음)
+    private static int[] distinctBigrams(String[] fields) {
+        IntList grams = new IntList();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (int i = 0; i + 1 < field.length(); i++) {
+                grams.add((field.charAt(i) << 16) | field.charAt(i + 1));
+            }
+        }
+        return Arrays.stream(grams.toArray()).sorted().distinct().toArray();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
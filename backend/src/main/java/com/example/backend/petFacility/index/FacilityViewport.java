@@ -0,0 +1,74 @@
+package com.example.backend.petFacility.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+// 지도 화면 범위 조회 조건 (/search/bounds 기준: 범위 + 검색어 + 영업시각 + limit)
+// 차이 조회(/search/bounds/diff) 응답에 토큰으로 내려주고, 다음 요청에서 "이전 화면"으로 다시 받는다.
+// snapshotVersion은 토큰을 발급할 때의 스냅샷 버전 (시설 데이터가 바뀌었으면 이전 결과를 재현할 수 없음)
+@Getter
+@RequiredArgsConstructor
+public class FacilityViewport {
+
+    public static final int MAX_LIMIT = 10000;
+    private static final char SEPARATOR = '\t';
+
+    private final double southWestLat;
+    private final double northEastLat;
+    private final double southWestLng;
+    private final double northEastLng;
+    private final String searchQuery;   // null 가능
+    private final LocalDateTime openAt; // null 가능 ("now"는 조회 시점 시각으로 고정해서 보관)
+    private final int limit;
+    private final long snapshotVersion;
+
+    public FacilityViewport withSnapshotVersion(long version) {
+        return new FacilityViewport(southWestLat, northEastLat, southWestLng, northEastLng,
+                searchQuery, openAt, limit, version);
+    }
+
+    public FacilityFilter toFilter() {
+        return FacilityFilter.builder()
+                .searchQuery(searchQuery)
+                .openAt(openAt)
+                .build();
+    }
+
+    public boolean hasSameFilter(FacilityViewport other) {
+        return Objects.equals(searchQuery, other.searchQuery) && Objects.equals(openAt, other.openAt);
+    }
+
+    // 검색어는 탭을 포함할 수 있어서 맨 뒤에 둔다
+    public String encode() {
+        String payload = String.join(String.valueOf(SEPARATOR),
+                Long.toString(snapshotVersion),
+                Double.toString(southWestLat), Double.toString(northEastLat),
+                Double.toString(southWestLng), Double.toString(northEastLng),
+                Integer.toString(limit),
+                openAt == null ? "" : openAt.toString(),
+                searchQuery == null ? "" : searchQuery);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰이면 IllegalArgumentException 또는 DateTimeParseException
+    // 토큰은 클라이언트가 보낸 값이므로 limit은 새 요청과 같은 범위(0~MAX_LIMIT)로 다시 자른다
+    public static FacilityViewport decode(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = payload.split(String.valueOf(SEPARATOR), 8);
+        if (parts.length != 8) {
+            throw new IllegalArgumentException("잘못된 viewport 토큰입니다.");
+        }
+        return new FacilityViewport(
+                Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                Double.parseDouble(parts[3]), Double.parseDouble(parts[4]),
+                parts[7].isEmpty() ? null : parts[7],
+                parts[6].isEmpty() ? null : LocalDateTime.parse(parts[6]),
+                Math.max(0, Math.min(Integer.parseInt(parts[5]), MAX_LIMIT)),
+                Long.parseLong(parts[0]));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.petFacility.index;
+
+import java.util.Map;
+
+// 한글 음절 분해 유틸
+// 초성 검색("ㄱㅇㅈ")과 자모 단위 오타 허용 검색에 사용한다.
+// 한글 음절(가~힣) = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+public final class HangulJamo {
+
+    private static final char SYLLABLE_START = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 키보드 입력 순서대로 풀어쓴 중성/종성 (겹모음, 겹받침은 두 글자로)
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 입력 중인 낱자로 들어오는 겹받침/겹모음
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_START && c <= SYLLABLE_END;
+    }
+
+    // 호환용 자음(ㄱ~ㅎ)인지
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 공백을 제외한 모든 글자가 자음이면 초성 검색어로 본다
+    public static boolean isChosungQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (isConsonant(c)) {
+                hasConsonant = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    // 음절을 초성으로 바꾼 문자열 (그 외 글자는 소문자로 유지, 길이와 위치는 원문과 같다)
+    public static String toChosung(String text) {
+        char[] result = new char[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            result[i] = isSyllable(c)
+                    ? CHOSUNG[(c - SYLLABLE_START) / (21 * 28)]
+                    : Character.toLowerCase(c);
+        }
+        return new String(result);
+    }
+
+    // 음절을 초성/중성/종성 자모로 풀어쓴 문자열 ("강아지" -> "ㄱㅏㅇㅇㅏㅈㅣ")
+    // 입력 중인 낱자(ㄳ, ㅘ 등)도 같은 방식으로 풀어서 비교할 수 있게 한다.
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int code = c - SYLLABLE_START;
+                sb.append(CHOSUNG[code / (21 * 28)]);
+                sb.append(JUNGSUNG[(code / 28) % 21]);
+                sb.append(JONGSUNG[code % 28]);
+            } else if (c >= 'ㄱ' && c <= 'ㅣ') {
+                sb.append(COMPOUND_JAMO.getOrDefault(c, String.valueOf(c)));
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.petFacility.index;
+
+import java.util.Arrays;
+
+// 인덱스 생성 시 박싱 없이 int를 모으기 위한 가변 배열
+class IntList {
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.petFacility.index;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 법정공휴일 판단 (영업시간 필터용)
+// 양력 공휴일은 날짜 고정, 음력 공휴일(설날/추석/부처님오신날)은 연도별 표로 관리한다.
+// 대체공휴일은 규칙대로 계산한다.
+//   설날/추석 연휴: 일요일이나 다른 공휴일과 겹친 날마다 연휴 다음 첫 평일
+//   어린이날: 토/일요일이나 다른 공휴일과 겹치면 다음 첫 평일
+//   삼일절/광복절/개천절/한글날/부처님오신날/성탄절: 토/일요일과 겹치면 다음 첫 평일 (신정/현충일은 대체 없음)
+// 표에 없는 연도는 양력 공휴일만 인식하므로(경고 로그) 매년 초 다음 해 날짜를 추가해야 한다.
+@Slf4j
+public final class KoreanHolidays {
+
+    private static final Set<MonthDay> SOLAR_HOLIDAYS = Set.of(
+            MonthDay.of(1, 1),   // 신정
+            MonthDay.of(3, 1),   // 삼일절
+            MonthDay.of(5, 5),   // 어린이날
+            MonthDay.of(6, 6),   // 현충일
+            MonthDay.of(8, 15),  // 광복절
+            MonthDay.of(10, 3),  // 개천절
+            MonthDay.of(10, 9),  // 한글날
+            MonthDay.of(12, 25)  // 성탄절
+    );
+    private static final Set<MonthDay> NO_SUBSTITUTE = Set.of(MonthDay.of(1, 1), MonthDay.of(6, 6));
+    private static final MonthDay CHILDRENS_DAY = MonthDay.of(5, 5);
+
+    // 설날/추석 당일 (연휴는 앞뒤 하루씩)
+    private static final Set<LocalDate> LUNAR_NEW_YEAR_AND_CHUSEOK = Set.of(
+            LocalDate.of(2025, 1, 29), LocalDate.of(2025, 10, 6),
+            LocalDate.of(2026, 2, 17), LocalDate.of(2026, 9, 25),
+            LocalDate.of(2027, 2, 7), LocalDate.of(2027, 9, 15)
+    );
+
+    private static final Set<LocalDate> BUDDHAS_BIRTHDAY = Set.of(
+            LocalDate.of(2025, 5, 5),
+            LocalDate.of(2026, 5, 24),
+            LocalDate.of(2027, 5, 13)
+    );
+
+    private static final int FIRST_YEAR = 2025;
+    private static final int LAST_YEAR = 2027;
+
+    private static final Set<LocalDate> SUBSTITUTE_HOLIDAYS = substituteHolidays();
+    private static final Set<Integer> WARNED_YEARS = ConcurrentHashMap.newKeySet();
+
+    private KoreanHolidays() {
+    }
+
+    public static boolean isPublicHoliday(LocalDate date) {
+        return SOLAR_HOLIDAYS.contains(MonthDay.from(date))
+                || BUDDHAS_BIRTHDAY.contains(date)
+                || isLunarNewYearOrChuseok(date, false)
+                || SUBSTITUTE_HOLIDAYS.contains(date);
+    }
+
+    // dayOnly=true면 설날/추석 당일만, false면 앞뒤 하루를 포함한 연휴 3일
+    public static boolean isLunarNewYearOrChuseok(LocalDate date, boolean dayOnly) {
+        warnIfNotCovered(date);
+        if (LUNAR_NEW_YEAR_AND_CHUSEOK.contains(date)) {
+            return true;
+        }
+        return !dayOnly && (LUNAR_NEW_YEAR_AND_CHUSEOK.contains(date.plusDays(1))
+                || LUNAR_NEW_YEAR_AND_CHUSEOK.contains(date.minusDays(1)));
+    }
+
+    // 설/추석/부처님오신날과 대체공휴일을 모르는 연도 (연도마다 한 번만 경고)
+    private static void warnIfNotCovered(LocalDate date) {
+        int year = date.getYear();
+        if ((year < FIRST_YEAR || year > LAST_YEAR) && WARNED_YEARS.add(year)) {
+            log.warn("{}년 음력 공휴일 표가 없어 설날/추석/부처님오신날/대체공휴일을 평일로 판단합니다. KoreanHolidays에 날짜를 추가하세요.", year);
+        }
+    }
+
+    private static Set<LocalDate> substituteHolidays() {
+        // 날짜별로 겹친 공휴일 수 (겹침 판단용)
+        Map<LocalDate, Integer> holidayCount = new HashMap<>();
+        List<LocalDate> lunarDays = new ArrayList<>();
+        for (LocalDate day : LUNAR_NEW_YEAR_AND_CHUSEOK) {
+            lunarDays.add(day.minusDays(1));
+            lunarDays.add(day);
+            lunarDays.add(day.plusDays(1));
+        }
+        lunarDays.forEach(day -> holidayCount.merge(day, 1, Integer::sum));
+        BUDDHAS_BIRTHDAY.forEach(day -> holidayCount.merge(day, 1, Integer::sum));
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (MonthDay monthDay : SOLAR_HOLIDAYS) {
+                holidayCount.merge(monthDay.atYear(year), 1, Integer::sum);
+            }
+        }
+
+        // 대체공휴일이 필요한 원래 공휴일을 날짜순으로 (연휴는 연휴 마지막 날 다음부터 찾음)
+        TreeMap<LocalDate, Integer> needed = new TreeMap<>();
+        for (LocalDate day : LUNAR_NEW_YEAR_AND_CHUSEOK) {
+            for (LocalDate holiday = day.minusDays(1); !holiday.isAfter(day.plusDays(1)); holiday = holiday.plusDays(1)) {
+                if (holiday.getDayOfWeek() == DayOfWeek.SUNDAY || holidayCount.get(holiday) > 1) {
+                    needed.merge(day.plusDays(1), 1, Integer::sum);
+                }
+            }
+        }
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (MonthDay monthDay : SOLAR_HOLIDAYS) {
+                LocalDate holiday = monthDay.atYear(year);
+                boolean overlapsOther = monthDay.equals(CHILDRENS_DAY) && holidayCount.get(holiday) > 1;
+                if (!NO_SUBSTITUTE.contains(monthDay) && (isWeekend(holiday) || overlapsOther)) {
+                    needed.merge(holiday, 1, Integer::sum);
+                }
+            }
+        }
+        BUDDHAS_BIRTHDAY.stream().filter(KoreanHolidays::isWeekend)
+                .forEach(holiday -> needed.merge(holiday, 1, Integer::sum));
+
+        Set<LocalDate> substitutes = new HashSet<>();
+        needed.forEach((after, count) -> {
+            LocalDate day = after;
+            for (int i = 0; i < count; i++) {
+                do {
+                    day = day.plusDays(1);
+                } while (isWeekend(day) || holidayCount.containsKey(day) || substitutes.contains(day));
+                substitutes.add(day);
+            }
+        });
+        return Set.copyOf(substitutes);
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+}
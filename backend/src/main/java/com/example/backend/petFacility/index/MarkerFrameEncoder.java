@@ -0,0 +1,111 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// 지도 마커 전용 바이너리 응답 (id, 좌표, category2만)
+//
+// 형식 (varint: LEB128 부호 없는 정수, zigzag: 부호 있는 정수를 varint로)
+//   byte     버전 (1)
+//   varint   카테고리 사전 크기 D
+//   D번      varint 바이트 길이 + UTF-8 문자열   (이 응답에 등장하는 category2만)
+//   varint   마커 수 N
+//   N번      varint  id 증가분 (id 오름차순, 첫 항목은 id 자체)
+//            zigzag  위도 * 1e6 증가분 (첫 항목은 값 자체)
+//            zigzag  경도 * 1e6 증가분
+//            varint  카테고리 사전 번호 + 1 (0이면 카테고리 없음)
+//
+// 상세 정보는 id로 따로 조회한다.
+public final class MarkerFrameEncoder {
+
+    public static final String CONTENT_TYPE = "application/vnd.pettopia.markers";
+    private static final int VERSION = 1;
+    private static final double SCALE = 1_000_000d; // 소수점 6자리 (약 0.1m)
+
+    private MarkerFrameEncoder() {
+    }
+
+    public static byte[] encode(List<PetFacility> facilities) {
+        List<PetFacility> sorted = new ArrayList<>(facilities);
+        sorted.sort(Comparator.comparing(PetFacility::getId));
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (PetFacility facility : sorted) {
+            if (facility.getCategory2() != null) {
+                dictionary.putIfAbsent(facility.getCategory2(), dictionary.size());
+            }
+        }
+
+        Buffer out = new Buffer(16 + sorted.size() * 10);
+        out.write(VERSION);
+        out.writeVarint(dictionary.size());
+        for (String category : dictionary.keySet()) {
+            byte[] bytes = category.getBytes(StandardCharsets.UTF_8);
+            out.writeVarint(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeVarint(sorted.size());
+        long prevId = 0;
+        long prevLat = 0;
+        long prevLng = 0;
+        for (PetFacility facility : sorted) {
+            long lat = Math.round(facility.getLatitude() * SCALE);
+            long lng = Math.round(facility.getLongitude() * SCALE);
+            out.writeVarint(facility.getId() - prevId);
+            out.writeVarint(zigzag(lat - prevLat));
+            out.writeVarint(zigzag(lng - prevLng));
+            out.writeVarint(facility.getCategory2() == null ? 0 : dictionary.get(facility.getCategory2()) + 1);
+            prevId = facility.getId();
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // 박싱/스트림 없이 쓰는 가변 바이트 버퍼
+    private static class Buffer {
+        private byte[] bytes;
+        private int size;
+
+        Buffer(int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        void write(int b) {
+            ensure(1);
+            bytes[size++] = (byte) b;
+        }
+
+        void write(byte[] data) {
+            ensure(data.length);
+            System.arraycopy(data, 0, bytes, size, data.length);
+            size += data.length;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.backend.petFacility.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 운영시간/휴무일 문구를 파싱한 주간 영업 일정
+// 운영시간은 일주일을 5분 단위 칸(7 x 288칸)으로 나눈 비트맵, 법정공휴일 운영시간이 따로 있으면 하루치 비트맵을 하나 더 둔다.
+// 자정을 넘긴 부분은 시작한 요일의 다음 날 새벽 칸으로 따로 보관해, 휴무일 판단은 영업을 시작한 날 기준으로 한다.
+// ("토 22:00~02:00, 일요일 휴무"면 일요일 01:00은 토요일 영업이므로 영업 중)
+// 휴무일은 매주 요일 / N째주 요일 / 매년 날짜 / 법정공휴일 / 설·추석 규칙으로 보관한다.
+//
+// 지원하는 운영시간 형식 (공공데이터 실제 값 기준):
+//   "매일 10:00~22:00", "월~금 09:00~19:00, 토 09:00~14:00", "화~일 하절기 10:00~18:00, 동절기 10:00~17:00",
+//   "월, 수, 금 09:00~19:00", "일~월 12:00~21:00", "월~금 11:00~01:00"(자정 넘김), "법정공휴일 10:00~16:00"
+// 시간 범위가 하나도 없으면("정보없음" 등) parse()는 null을 반환한다.
+public final class OpeningHours {
+
+    public static final int SLOT_MINUTES = 5;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;
+    private static final String DAYS = "월화수목금토일"; // DayOfWeek 순서 (월=0)
+
+    private static final Pattern HOURS_TOKEN = Pattern.compile(
+            "(?<time>(?<h1>\\d{1,2})\\s*:\\s*(?<m1>\\d{2})\\d*\\s*~\\s*(?<h2>\\d{1,2})\\s*:\\s*(?<m2>\\d{2})\\d*)"
+                    + "|(?<paren>\\([^)]*\\))"
+                    + "|(?<everyday>매일)"
+                    + "|(?<holiday>법정공휴일|공휴일)"
+                    + "|(?<range>(?<from>[월화수목금토일])(?:요일)?\\s*~\\s*(?<to>[월화수목금토일])(?:요일)?)"
+                    + "|(?<day>[월화수목금토일])(?:요일)?");
+
+    private static final String DAY_LIST = "[월화수목금토일](?:요일)?(?:\\s*[,~]\\s*[월화수목금토일](?:요일)?)*";
+    private static final Pattern CLOSED_DATE = Pattern.compile("(\\d{1,2})\\s*월\\s*(\\d{1,2})\\s*일");
+    private static final Pattern CLOSED_NTH_WEEK = Pattern.compile(
+            "((?:\\d\\s*,\\s*)*\\d)\\s*(?:째\\s*주|번째(?:\\s*주)?)\\s*(" + DAY_LIST + ")");
+    private static final Pattern CLOSED_LAST_WEEK = Pattern.compile("마지막\\s*주?\\s*(" + DAY_LIST + ")");
+    private static final Pattern EVERY_OTHER_WEEK = Pattern.compile("격주\\s*(" + DAY_LIST + ")");
+    private static final Pattern CLOSED_DAY_RANGE = Pattern.compile(
+            "(?<![가-힣0-9])([월화수목금토일])\\s*~\\s*([월화수목금토일])(?:요일)?");
+    // "일요일과"처럼 요일 뒤에 조사가 붙는 경우는 허용, "당일"/"9월"처럼 다른 단어의 일부인 글자는 제외
+    private static final Pattern CLOSED_DAYS = Pattern.compile(
+            "(?<![가-힣0-9])(?:([월화수목금토일]+)요일|([월화수목금토일]+)(?![가-힣]))");
+    private static final String[] ORDINALS = {"첫째", "둘째", "셋째", "넷째", "다섯째"};
+    private static final int LAST_WEEK = 1 << 5;
+    private static final Pattern LUNAR_NEW_YEAR = Pattern.compile("(?<![가-힣])설(?:날)?(?![가-힣])");
+
+    private final long[] weekSlots = new long[(SLOTS_PER_WEEK + 63) >>> 6];
+    private final long[] overnightSlots = new long[(SLOTS_PER_WEEK + 63) >>> 6]; // 요일별로 시작해 다음 날 새벽까지 이어지는 칸
+    private long[] holidaySlots;               // 법정공휴일 운영시간 (당일 + 다음 날 새벽, null이면 요일 운영시간을 따름)
+    private int closedDays;                    // 매주 휴무 요일 비트 (월=1)
+    private final int[] closedWeeksByDay = new int[7]; // 요일별 휴무 주차 비트 (1째주=1, 마지막주=LAST_WEEK)
+    private final Set<MonthDay> closedDates = new HashSet<>();
+    private boolean closedOnPublicHolidays;
+    private boolean closedOnLunarHolidays;     // 설/추석
+    private boolean lunarHolidayDayOnly;       // "당일"이면 설/추석 당일만, 아니면 연휴 3일
+
+    private OpeningHours() {
+    }
+
+    // 운영시간을 알 수 없으면 null
+    public static OpeningHours parse(String operatingHours, String holiday) {
+        if (operatingHours == null) {
+            return null;
+        }
+        OpeningHours hours = new OpeningHours();
+        if (!hours.parseHours(operatingHours)) {
+            return null;
+        }
+        if (holiday != null) {
+            hours.parseClosures(holiday);
+        }
+        return hours;
+    }
+
+    // 그날 시작한 영업 중이거나, 전날 시작해 자정을 넘긴 영업 중이면 true
+    public boolean isOpenAt(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        int slot = (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+        return isOpenFrom(date, slot, false) || isOpenFrom(date.minusDays(1), slot, true);
+    }
+
+    // start: 영업을 시작한 날, overnight면 slot은 그 다음 날 새벽 칸
+    private boolean isOpenFrom(LocalDate start, int slot, boolean overnight) {
+        int day = start.getDayOfWeek().getValue() - 1;
+        boolean publicHoliday = KoreanHolidays.isPublicHoliday(start);
+
+        if (publicHoliday && closedOnPublicHolidays) return false;
+        if ((closedDays & (1 << day)) != 0) return false;
+        if ((closedWeeksByDay[day] & weekOfMonth(start)) != 0) return false;
+        if (closedDates.contains(MonthDay.from(start))) return false;
+        if (closedOnLunarHolidays && KoreanHolidays.isLunarNewYearOrChuseok(start, lunarHolidayDayOnly)) return false;
+
+        if (publicHoliday && holidaySlots != null) {
+            return get(holidaySlots, overnight ? SLOTS_PER_DAY + slot : slot);
+        }
+        return get(overnight ? overnightSlots : weekSlots, day * SLOTS_PER_DAY + slot);
+    }
+
+    // 시간 범위는 바로 앞에 나온 요일들에 적용, 요일 없이 이어지는 범위(하절기/동절기 등)는 직전 요일들에 합친다
+    private boolean parseHours(String text) {
+        int pendingDays = 0;
+        boolean pendingHoliday = false;
+        int lastDays = 0;
+        boolean lastHoliday = false;
+        boolean parsed = false;
+
+        Matcher m = HOURS_TOKEN.matcher(text);
+        while (m.find()) {
+            if (m.group("time") != null) {
+                int start = minutes(m.group("h1"), m.group("m1"));
+                int end = minutes(m.group("h2"), m.group("m2"));
+                if (start < 0 || end < 0 || start >= 24 * 60) {
+                    continue;
+                }
+                if (pendingDays != 0 || pendingHoliday) {
+                    lastDays = pendingDays;
+                    lastHoliday = pendingHoliday;
+                    pendingDays = 0;
+                    pendingHoliday = false;
+                } else if (lastDays == 0 && !lastHoliday) {
+                    lastDays = 0x7F; // 요일 없이 시간만 있으면 ("오전 09:00~22:00") 매일
+                }
+                addRange(lastDays, lastHoliday, start, end <= start ? end + 24 * 60 : end);
+                parsed = true;
+            } else if (m.group("everyday") != null) {
+                pendingDays = 0x7F;
+            } else if (m.group("holiday") != null) {
+                pendingHoliday = true;
+            } else if (m.group("range") != null) {
+                pendingDays |= dayRange(DAYS.indexOf(m.group("from")), DAYS.indexOf(m.group("to")));
+            } else if (m.group("day") != null) {
+                pendingDays |= 1 << DAYS.indexOf(m.group("day"));
+            }
+            // 괄호 안 보충 설명은 무시
+        }
+        return parsed;
+    }
+
+    // 휴무일 문구: 날짜/주차/공휴일처럼 요일 글자를 포함할 수 있는 규칙부터 지우고 남은 요일을 매주 휴무로 본다
+    private void parseClosures(String text) {
+        String rest = text;
+
+        Matcher date = CLOSED_DATE.matcher(rest);
+        while (date.find()) {
+            int month = Integer.parseInt(date.group(1));
+            int dayOfMonth = Integer.parseInt(date.group(2));
+            if (month >= 1 && month <= 12 && dayOfMonth >= 1 && dayOfMonth <= Month.of(month).maxLength()) {
+                closedDates.add(MonthDay.of(month, dayOfMonth));
+            }
+        }
+        rest = CLOSED_DATE.matcher(rest).replaceAll(",");
+
+        for (int n = 0; n < ORDINALS.length; n++) {
+            rest = rest.replace(ORDINALS[n], (n + 1) + "째");
+        }
+        Matcher nth = CLOSED_NTH_WEEK.matcher(rest);
+        while (nth.find()) {
+            int weeks = 0;
+            for (String week : nth.group(1).split(",")) {
+                int n = Integer.parseInt(week.trim());
+                if (n >= 1 && n <= 5) {
+                    weeks |= 1 << (n - 1);
+                }
+            }
+            closeWeeks(daysOf(nth.group(2)), weeks);
+        }
+        rest = CLOSED_NTH_WEEK.matcher(rest).replaceAll(",");
+
+        Matcher last = CLOSED_LAST_WEEK.matcher(rest);
+        while (last.find()) {
+            closeWeeks(daysOf(last.group(1)), LAST_WEEK);
+        }
+        rest = CLOSED_LAST_WEEK.matcher(rest).replaceAll(",");
+        rest = EVERY_OTHER_WEEK.matcher(rest).replaceAll(","); // 어느 주인지 알 수 없어 무시
+
+        if (rest.contains("공휴일")) {
+            closedOnPublicHolidays = true;
+            rest = rest.replace("법정공휴일", ",").replace("공휴일", ",");
+        }
+        if (rest.contains("추석") || LUNAR_NEW_YEAR.matcher(rest).find()) {
+            closedOnLunarHolidays = true;
+            lunarHolidayDayOnly = rest.contains("당일");
+        }
+
+        Matcher range = CLOSED_DAY_RANGE.matcher(rest);
+        while (range.find()) {
+            closedDays |= dayRange(DAYS.indexOf(range.group(1)), DAYS.indexOf(range.group(2)));
+        }
+        rest = CLOSED_DAY_RANGE.matcher(rest).replaceAll(",");
+
+        Matcher days = CLOSED_DAYS.matcher(rest);
+        while (days.find()) {
+            String group = days.group(1) != null ? days.group(1) : days.group(2);
+            for (char c : group.toCharArray()) {
+                closedDays |= 1 << DAYS.indexOf(c);
+            }
+        }
+    }
+
+    private void closeWeeks(int days, int weeks) {
+        for (int day = 0; day < 7; day++) {
+            if ((days & (1 << day)) != 0) {
+                closedWeeksByDay[day] |= weeks;
+            }
+        }
+    }
+
+    // "화~일요일", "토, 일" 같은 요일 목록 -> 요일 비트
+    private static int daysOf(String text) {
+        String[] parts = text.replace("요일", "").split(",");
+        int mask = 0;
+        for (String part : parts) {
+            String[] range = part.trim().split("\\s*~\\s*");
+            String from = range[0];
+            String to = range[range.length - 1];
+            if (from.length() == 1 && to.length() == 1) {
+                mask |= dayRange(DAYS.indexOf(from), DAYS.indexOf(to));
+            }
+        }
+        return mask;
+    }
+
+    // 그 달의 몇째 주인지 비트 (마지막 주면 LAST_WEEK도 포함)
+    private static int weekOfMonth(LocalDate date) {
+        int bits = 1 << ((date.getDayOfMonth() - 1) / 7);
+        return date.plusWeeks(1).getMonth() != date.getMonth() ? bits | LAST_WEEK : bits;
+    }
+
+    // 운영 구간을 5분 칸으로 표시 (시작은 올림, 끝은 내림: 확실히 영업 중인 칸만)
+    private void addRange(int days, boolean holiday, int startMinute, int endMinute) {
+        int startSlot = (startMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int endSlot = endMinute / SLOT_MINUTES;
+        for (int day = 0; day < 7; day++) {
+            if ((days & (1 << day)) == 0) {
+                continue;
+            }
+            for (int slot = startSlot; slot < Math.min(endSlot, SLOTS_PER_DAY); slot++) {
+                set(weekSlots, day * SLOTS_PER_DAY + slot);
+            }
+            for (int slot = SLOTS_PER_DAY; slot < endSlot; slot++) {
+                set(overnightSlots, day * SLOTS_PER_DAY + slot - SLOTS_PER_DAY); // 자정 넘김은 시작한 요일의 새벽 칸으로
+            }
+        }
+        if (holiday) {
+            if (holidaySlots == null) {
+                holidaySlots = new long[(2 * SLOTS_PER_DAY + 63) >>> 6];
+            }
+            for (int slot = startSlot; slot < endSlot; slot++) {
+                set(holidaySlots, slot);
+            }
+        }
+    }
+
+    // "09:00" -> 540, 범위를 벗어나면 -1 ("25:00"처럼 다음 날 새벽을 24시 이후로 쓴 값은 허용)
+    private static int minutes(String hour, String minute) {
+        int h = Integer.parseInt(hour);
+        int m = Integer.parseInt(minute);
+        if (h > 48 || m > 59) {
+            return -1;
+        }
+        return h * 60 + m;
+    }
+
+    // 요일 범위 비트 (일~월처럼 한 주를 넘어가는 범위 포함)
+    private static int dayRange(int from, int to) {
+        int mask = 0;
+        for (int day = from; ; day = (day + 1) % 7) {
+            mask |= 1 << day;
+            if (day == to) {
+                return mask;
+            }
+        }
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.backend.petFacility.index;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+// allowedPetSize 원문을 통일된 4가지 카테고리(모두가능/개/고양이/기타) 비트마스크로 분류
+// 정규식은 생성 시 한 번만 컴파일하고, 분류는 시설을 읽을 때(스냅샷 생성, 재분류) 고유값 단위로만 수행한다.
+public class PetSizeClassifier {
+
+    public static final int ALL = 1;
+    public static final int DOG = 1 << 1;
+    public static final int CAT = 1 << 2;
+    public static final int OTHER = 1 << 3;
+
+    // 화면에서 쓰는 카테고리 이름 -> 비트
+    public static final Map<String, Integer> CATEGORY_BITS = Map.of(
+            "모두가능", ALL,
+            "개", DOG,
+            "고양이", CAT,
+            "기타", OTHER
+    );
+
+    public static final Set<String> DEFAULT_ALL_KEYWORDS = Set.of("해당없음", "모두 가능");
+    public static final Set<String> DEFAULT_CAT_KEYWORDS = Set.of("고양이", "cat");
+    public static final Set<String> DEFAULT_DOG_KEYWORDS = Set.of("개", "강아지", "소형", "중형", "대형", "특수견");
+    public static final Set<String> DEFAULT_OTHER_KEYWORDS = Set.of(
+            "파충류", "특수동물", "새", "물고기", "토끼", "고슴도치", "햄스터", "기니피그",
+            "말", "소", "염소", "설치류", "어류", "앵무새", "해양동물", "가금류",
+            "하늘다람쥐", "거북이", "도마뱀", "뱀", "페릿", "포유류"
+    );
+
+    private static final Set<String> TIME_KEYWORDS = Set.of("주말", "평일", "공휴일", "금요일", "토요일", "일요일");
+    private static final Pattern QUOTES = Pattern.compile("[\"']");
+    private static final Pattern WEIGHT = Pattern.compile("\\d+\\s*kg");
+
+    // "소", "새"처럼 다른 단어 안에 흔히 들어가는 한 글자 키워드는 단독으로 쓰였을 때만 인정
+    private static final Set<String> STANDALONE_KEYWORDS = Set.of("소", "새");
+
+    private final Set<String> allKeywords;
+    private final Set<String> catKeywords;
+    private final Set<String> dogKeywords;
+    private final List<String> otherKeywords;
+    private final List<Pattern> standaloneOtherPatterns;
+
+    public PetSizeClassifier(Collection<String> allKeywords, Collection<String> catKeywords,
+                             Collection<String> dogKeywords, Collection<String> otherKeywords) {
+        this.allKeywords = lowerSet(allKeywords);
+        this.catKeywords = lowerSet(catKeywords);
+        this.dogKeywords = lowerSet(dogKeywords);
+
+        List<String> plain = new ArrayList<>();
+        List<Pattern> standalone = new ArrayList<>();
+        for (String keyword : lowerSet(otherKeywords)) {
+            if (STANDALONE_KEYWORDS.contains(keyword)) {
+                standalone.add(standalonePattern(keyword));
+            } else {
+                plain.add(keyword);
+            }
+        }
+        this.otherKeywords = List.copyOf(plain);
+        this.standaloneOtherPatterns = List.copyOf(standalone);
+    }
+
+    public static PetSizeClassifier defaults() {
+        return new PetSizeClassifier(DEFAULT_ALL_KEYWORDS, DEFAULT_CAT_KEYWORDS,
+                DEFAULT_DOG_KEYWORDS, DEFAULT_OTHER_KEYWORDS);
+    }
+
+    // 선택한 카테고리 이름들 -> 비트마스크 (알 수 없는 이름은 무시)
+    public static int maskOf(Collection<String> categories) {
+        int mask = 0;
+        for (String category : categories) {
+            mask |= CATEGORY_BITS.getOrDefault(category, 0);
+        }
+        return mask;
+    }
+
+    // 하나의 DB 값을 여러 카테고리로 분류
+    public int classify(String dbSize) {
+        if (dbSize == null || dbSize.trim().isEmpty()) {
+            return 0;
+        }
+        String normalized = QUOTES.matcher(dbSize.trim()).replaceAll("").toLowerCase();
+        boolean hasWeight = WEIGHT.matcher(normalized).find();
+        boolean hasTime = containsAny(normalized, TIME_KEYWORDS);
+
+        int mask = 0;
+        if (containsAny(normalized, allKeywords)) {
+            mask |= ALL;
+        }
+        if (containsAny(normalized, catKeywords)) {
+            mask |= CAT;
+        }
+        // 무게(kg) 표기나 개 관련 키워드, 또는 요일/시간 조건과 kg가 같이 있으면 개
+        if (hasWeight || containsAny(normalized, dogKeywords) || (hasTime && normalized.contains("kg"))) {
+            mask |= DOG;
+        }
+        // kg나 요일/시간 조건이 있는 값은 개 전용 안내이므로 기타에서 제외
+        if (!hasWeight && !hasTime && containsOtherKeyword(normalized)) {
+            mask |= OTHER;
+        }
+        return mask;
+    }
+
+    private boolean containsOtherKeyword(String normalized) {
+        if (containsAny(normalized, otherKeywords)) {
+            return true;
+        }
+        for (Pattern pattern : standaloneOtherPatterns) {
+            if (pattern.matcher(normalized).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 앞뒤가 한글이 아닌 위치, 또는 쉼표/공백으로 시작·끝나는 경우, 값 전체가 키워드인 경우 ("새"는 "새(" 형태도)
+    private static Pattern standalonePattern(String keyword) {
+        String k = Pattern.quote(keyword);
+        return Pattern.compile("[^가-힣]" + k + "[^가-힣]"
+                + "|^" + k + "[,\\s]"
+                + "|[,\\s]" + k + "$"
+                + "|^" + k + "$"
+                + (keyword.equals("새") ? "|" + k + "\\(" : ""));
+    }
+
+    private static boolean containsAny(String text, Collection<String> keywords) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> lowerSet(Collection<String> values) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                result.add(value.trim().toLowerCase());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.petFacility.index;
+
+import java.util.Arrays;
+
+// 단계별 상위 N개 선택기
+// 앞 단계에서 뽑힌 시설은 제외하고, 현재 단계에서는 ordinal이 작은(이름순) 것만 남긴다.
+// 후보를 모두 모아 정렬하지 않고 크기 N짜리 배열에 삽입 정렬로 유지한다.
+class RankedSelector {
+
+    private final int[] chosen;
+    private int chosenCount;
+    private int[] tier = new int[0];
+    private int tierCount;
+
+    RankedSelector(int limit) {
+        this.chosen = new int[limit];
+    }
+
+    void nextTier() {
+        flush();
+        tier = new int[chosen.length - chosenCount];
+        tierCount = 0;
+    }
+
+    void offer(int ordinal) {
+        if (tier.length == 0 || isChosen(ordinal)) {
+            return;
+        }
+        if (tierCount == tier.length && ordinal >= tier[tierCount - 1]) {
+            return;
+        }
+        // 정렬 상태를 유지하며 삽입 (중복 무시)
+        int pos = tierCount;
+        while (pos > 0 && tier[pos - 1] > ordinal) {
+            pos--;
+        }
+        if (pos > 0 && tier[pos - 1] == ordinal) {
+            return;
+        }
+        int end = Math.min(tierCount, tier.length - 1);
+        System.arraycopy(tier, pos, tier, pos + 1, end - pos);
+        tier[pos] = ordinal;
+        tierCount = Math.min(tierCount + 1, tier.length);
+    }
+
+    // 오름차순 목록은 현재 단계가 가득 찬 뒤 더 큰 값이 나오면 중단
+    void offerSorted(int[] ordinals) {
+        for (int ordinal : ordinals) {
+            if (tier.length == 0 || (tierCount == tier.length && ordinal >= tier[tierCount - 1])) {
+                return;
+            }
+            offer(ordinal);
+        }
+    }
+
+    int[] result() {
+        flush();
+        return Arrays.copyOf(chosen, chosenCount);
+    }
+
+    private void flush() {
+        for (int i = 0; i < tierCount; i++) {
+            chosen[chosenCount++] = tier[i];
+        }
+        tierCount = 0;
+    }
+
+    private boolean isChosen(int ordinal) {
+        for (int i = 0; i < chosenCount; i++) {
+            if (chosen[i] == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
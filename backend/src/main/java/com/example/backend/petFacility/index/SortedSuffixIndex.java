@@ -0,0 +1,112 @@
+package com.example.backend.petFacility.index;
+
+import java.util.Arrays;
+
+// 정렬된 접미사 배열 기반 접두어 검색 구조
+// 문자열 조각을 새로 만들지 않고 (텍스트 번호, 시작 위치)를 long 하나로 묶어 정렬해 두고,
+// 질의어로 이진 탐색해서 "그 위치부터 질의어로 시작하는" 항목 구간을 찾는다.
+// 모든 위치를 넣으면 부분일치(contains), 단어 시작 위치만 넣으면 단어 접두어 검색이 된다.
+public class SortedSuffixIndex {
+
+    private final String[] texts;  // 소문자 변환된 원문
+    private final int[] owners;    // 텍스트가 속한 시설 ordinal
+    private final long[] entries;  // (텍스트 번호 << 16) | 시작 위치, 접미사 사전순 정렬
+
+    // 검색 결과 콜백 (offset: 일치가 시작된 위치, 0이면 원문 전체의 접두어)
+    public interface MatchConsumer {
+        void accept(int owner, int offset);
+    }
+
+    public SortedSuffixIndex(String[] texts, int[] owners, boolean tokenStartsOnly) {
+        this.texts = texts;
+        this.owners = owners;
+
+        IntList starts = new IntList();
+        IntList textNumbers = new IntList();
+        for (int t = 0; t < texts.length; t++) {
+            String text = texts[t];
+            if (text == null) {
+                continue;
+            }
+            int length = Math.min(text.length(), 0xFFFF);
+            for (int i = 0; i < length; i++) {
+                boolean tokenStart = i == 0 || Character.isWhitespace(text.charAt(i - 1));
+                if (Character.isWhitespace(text.charAt(i)) || (tokenStartsOnly && !tokenStart)) {
+                    continue;
+                }
+                textNumbers.add(t);
+                starts.add(i);
+            }
+        }
+
+        int[] textArray = textNumbers.toArray();
+        int[] startArray = starts.toArray();
+        Long[] boxed = new Long[textArray.length];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = ((long) textArray[i] << 16) | startArray[i];
+        }
+        Arrays.sort(boxed, this::compareSuffixes);
+        this.entries = new long[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            entries[i] = boxed[i];
+        }
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // prefix로 시작하는 모든 항목 전달 (prefix는 소문자여야 함)
+    public void forEachMatch(String prefix, MatchConsumer consumer) {
+        int from = lowerBound(prefix);
+        for (int i = from; i < entries.length && comparePrefix(entries[i], prefix) == 0; i++) {
+            int text = (int) (entries[i] >>> 16);
+            consumer.accept(owners[text], (int) (entries[i] & 0xFFFF));
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparePrefix(entries[mid], prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // 항목의 앞부분 prefix.length() 글자와 prefix 비교 (항목이 prefix로 시작하면 0)
+    private int comparePrefix(long entry, String prefix) {
+        String text = texts[(int) (entry >>> 16)];
+        int offset = (int) (entry & 0xFFFF);
+        int length = Math.min(text.length() - offset, prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = text.charAt(offset + i) - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length < prefix.length() ? -1 : 0;
+    }
+
+    private int compareSuffixes(long a, long b) {
+        String textA = texts[(int) (a >>> 16)];
+        String textB = texts[(int) (b >>> 16)];
+        int offsetA = (int) (a & 0xFFFF);
+        int offsetB = (int) (b & 0xFFFF);
+        int lengthA = textA.length() - offsetA;
+        int lengthB = textB.length() - offsetB;
+        int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            int diff = textA.charAt(offsetA + i) - textB.charAt(offsetB + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return lengthA - lengthB;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.petFacility.repository;
+
+import com.example.backend.petFacility.entity.FacilityStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FacilityStatsRepository extends JpaRepository<FacilityStats, Long> {
+
+    // 리뷰 1건 반영 (delta: +1 작성, -1 삭제) - 행이 없으면 만들고 있으면 원자적으로 증감
+    @Modifying
+    @Query(value = """
+            INSERT INTO facility_stats (facility_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5)
+            VALUES (:facilityId, :delta, :delta * :rating,
+                    IF(:rating = 1, :delta, 0), IF(:rating = 2, :delta, 0), IF(:rating = 3, :delta, 0),
+                    IF(:rating = 4, :delta, 0), IF(:rating = 5, :delta, 0))
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                rating_sum = rating_sum + VALUES(rating_sum),
+                rating1 = rating1 + VALUES(rating1),
+                rating2 = rating2 + VALUES(rating2),
+                rating3 = rating3 + VALUES(rating3),
+                rating4 = rating4 + VALUES(rating4),
+                rating5 = rating5 + VALUES(rating5)
+            """, nativeQuery = true)
+    void addReview(@Param("facilityId") Long facilityId, @Param("rating") int rating, @Param("delta") int delta);
+
+    // 회원 탈퇴 전: 그 회원이 쓴 리뷰가 있는 시설
+    @Query(value = "SELECT DISTINCT facility_id FROM review WHERE member_email = :email", nativeQuery = true)
+    List<Long> findFacilityIdsReviewedBy(@Param("email") String email);
+
+    // 회원 탈퇴 전: 그 회원의 리뷰를 시설별로 묶어 한 번에 차감 (리뷰는 member FK cascade로 지워짐)
+    @Modifying
+    @Query(value = """
+            UPDATE facility_stats fs
+                JOIN (SELECT facility_id, COUNT(*) AS cnt, SUM(rating) AS rating_sum,
+                             SUM(rating = 1) AS r1, SUM(rating = 2) AS r2, SUM(rating = 3) AS r3,
+                             SUM(rating = 4) AS r4, SUM(rating = 5) AS r5
+                      FROM review
+                      WHERE member_email = :email
+                      GROUP BY facility_id) mr ON mr.facility_id = fs.facility_id
+            SET fs.review_count = fs.review_count - mr.cnt,
+                fs.rating_sum = fs.rating_sum - mr.rating_sum,
+                fs.rating1 = fs.rating1 - mr.r1,
+                fs.rating2 = fs.rating2 - mr.r2,
+                fs.rating3 = fs.rating3 - mr.r3,
+                fs.rating4 = fs.rating4 - mr.r4,
+                fs.rating5 = fs.rating5 - mr.r5
+            """, nativeQuery = true)
+    int subtractReviewsByMemberEmail(@Param("email") String email);
+
+    // 재계산용: 집계 전체 삭제 후 review 기준으로 다시 채움
+    @Modifying
+    @Query(value = "DELETE FROM facility_stats", nativeQuery = true)
+    void deleteAllStats();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO facility_stats (facility_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5)
+            SELECT facility_id, COUNT(*), SUM(rating),
+                   SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5)
+            FROM review
+            GROUP BY facility_id
+            """, nativeQuery = true)
+    int rebuildFromReviews();
+}
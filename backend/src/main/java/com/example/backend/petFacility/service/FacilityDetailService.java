@@ -0,0 +1,84 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.favorite.service.FavoriteService;
+import com.example.backend.petFacility.dto.FacilityDetailDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.review.dto.ReviewListDto;
+import com.example.backend.review.dto.ReviewRatingSummaryDto;
+import com.example.backend.review.service.ReviewLikeService;
+import com.example.backend.review.service.ReviewService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 시설 상세 화면 한 번에 조회
+// 시설 정보, 평점 요약, 리뷰 첫 페이지, 로그인한 회원의 찜/좋아요 상태를 각각 부르던 것을 한 요청으로 합친다.
+// 시설 정보는 인메모리 스냅샷에서 바로 읽고, 서로 독립적인 DB 조회는 가상 스레드에서 동시에 실행한다.
+// (각 조회는 해당 서비스의 트랜잭션으로 따로 실행됨)
+@Service
+@RequiredArgsConstructor
+public class FacilityDetailService {
+
+    private final PetFacilityIndexService petFacilityIndexService;
+    private final ReviewService reviewService;
+    private final ReviewLikeService reviewLikeService;
+    private final FavoriteService favoriteService;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FacilityDetailDto getDetail(Long facilityId, String reviewSort, int reviewSize,
+                                       Authentication authentication) {
+        PetFacility facility = petFacilityIndexService.getSnapshot().findById(facilityId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "시설을 찾을 수 없습니다"));
+        boolean loggedIn = authentication != null && authentication.isAuthenticated();
+
+        CompletableFuture<ReviewRatingSummaryDto> ratingSummary = CompletableFuture.supplyAsync(
+                () -> reviewService.getRatingSummary(facilityId), executor);
+        CompletableFuture<List<ReviewListDto>> reviews = CompletableFuture.supplyAsync(
+                () -> "likes".equalsIgnoreCase(reviewSort)
+                        ? reviewService.findByFacilityIdOrderByLikesDesc(facilityId, 0, reviewSize)
+                        : reviewService.findByFacilityId(facilityId, 0, reviewSize), executor);
+        CompletableFuture<Boolean> favorite = loggedIn
+                ? CompletableFuture.supplyAsync(
+                        () -> favoriteService.getById(facilityId, authentication).getIsFavorite(), executor)
+                : CompletableFuture.completedFuture(false);
+        // 좋아요 여부는 리뷰 목록이 나온 뒤 그 id들로 한 번에 조회
+        CompletableFuture<List<Integer>> likedReviewIds = loggedIn
+                ? reviews.thenApplyAsync(list -> reviewLikeService.findLikedReviewIds(
+                        list.stream().map(ReviewListDto::getId).toList(), authentication), executor)
+                : CompletableFuture.completedFuture(List.of());
+
+        return FacilityDetailDto.builder()
+                .facility(facility)
+                .ratingSummary(await(ratingSummary))
+                .reviews(await(reviews))
+                .isFavorite(await(favorite))
+                .likedReviewIds(await(likedReviewIds))
+                .build();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.backend.petFacility.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+
+// 시설 전체 내보내기
+// 엔티티 목록을 메모리에 만들지 않고, 전진 전용 JDBC 커서로 fetchSize만큼씩 읽으면서 한 행씩 바로 응답에 쓴다.
+// 데이터가 늘어나도 힙 사용량은 fetchSize 분량으로 일정하다.
+// 전체 엔티티 컬럼(GET /api/pet_facilities)과 목록용 컬럼(/export) 두 가지 모양으로 쓴다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 200;
+
+    // 읽을 컬럼과 JSON 필드 이름 (첫 컬럼은 id)
+    // nullableDoubles가 false면 PetFacility의 double 필드처럼 NULL을 0으로 쓴다
+    private record Projection(String sql, String[] fields, Set<String> doubleFields, boolean nullableDoubles) {
+
+        Projection(String[] columns, String[] fields, boolean nullableDoubles) {
+            this("SELECT " + String.join(", ", columns) + " FROM pet_facility ORDER BY id",
+                    fields, Set.of("latitude", "longitude"), nullableDoubles);
+        }
+    }
+
+    // 목록 화면에 필요한 컬럼만 (PetFacilitySearchDto와 같은 필드)
+    private static final Projection SUMMARY = new Projection(new String[]{
+            "id", "name", "latitude", "longitude", "category2", "road_address", "category3",
+            "sido_name", "sigungu_name", "road_name", "bunji", "jibun_address", "phone_number",
+            "holiday", "operating_hours", "parking_available", "pet_friendly_info", "allowed_pet_size",
+            "pet_restrictions", "indoor_facility", "outdoor_facility"
+    }, new String[]{
+            "id", "name", "latitude", "longitude", "category2", "roadAddress", "category3",
+            "sidoName", "sigunguName", "roadName", "bunji", "jibunAddress", "phoneNumber",
+            "holiday", "operatingHours", "parkingAvailable", "petFriendlyInfo", "allowedPetSize",
+            "petRestrictions", "indoorFacility", "outdoorFacility"
+    }, true);
+
+    // PetFacility 엔티티의 모든 컬럼 (엔티티 필드 선언 순서 = 기존 findAll() 응답과 같은 모양)
+    private static final Projection ENTITY = new Projection(new String[]{
+            "id", "name", "category1", "category2", "category3", "sido_name", "sigungu_name",
+            "legal_eup_myeon_dong_name", "ri_name", "bunji", "road_name", "building_number",
+            "latitude", "longitude", "postal_code", "road_address", "jibun_address", "phone_number",
+            "homepage", "holiday", "operating_hours", "parking_available", "admission_fee_info",
+            "pet_friendly_info", "pet_only_info", "allowed_pet_size", "pet_restrictions",
+            "indoor_facility", "outdoor_facility", "description", "additional_pet_fee", "final_creation_date"
+    }, new String[]{
+            "id", "name", "category1", "category2", "category3", "sidoName", "sigunguName",
+            "legalEupMyeonDongName", "riName", "bunji", "roadName", "buildingNumber",
+            "latitude", "longitude", "postalCode", "roadAddress", "jibunAddress", "phoneNumber",
+            "homepage", "holiday", "operatingHours", "parkingAvailable", "admissionFeeInfo",
+            "petFriendlyInfo", "petOnlyInfo", "allowedPetSize", "petRestrictions",
+            "indoorFacility", "outdoorFacility", "description", "additionalPetFee", "finalCreationDate"
+    }, false);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 한 줄에 시설 하나 (application/x-ndjson)
+    public long writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            long count = writeRows(generator, SUMMARY);
+            generator.writeRaw('\n');
+            return count;
+        }
+    }
+
+    // GET /api/pet_facilities: 엔티티 목록과 같은 JSON 배열을 한 행씩 흘려보냄
+    public long writeEntityArray(OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(out)) {
+            generator.writeStartArray();
+            long count = writeRows(generator, ENTITY);
+            generator.writeEndArray();
+            return count;
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private long writeRows(JsonGenerator generator, Projection projection) throws IOException {
+        long start = System.currentTimeMillis();
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        projection.sql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, (ResultSet rs) -> {
+                writeRow(generator, rs, projection);
+                if (++count[0] % FLUSH_EVERY == 0) {
+                    flush(generator);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 중간에 연결을 끊은 경우 (커서와 커넥션은 JdbcTemplate이 정리)
+            log.debug("시설 내보내기 중단 - {}건 전송 후 연결 종료", count[0]);
+            throw e.getCause();
+        }
+        log.info("시설 내보내기 - {}건, {}ms", count[0], System.currentTimeMillis() - start);
+        return count[0];
+    }
+
+    private void writeRow(JsonGenerator generator, ResultSet rs, Projection projection) throws SQLException {
+        String[] fields = projection.fields();
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField(fields[0], rs.getLong(1));
+            for (int i = 1; i < fields.length; i++) {
+                if (projection.doubleFields().contains(fields[i])) {
+                    double value = rs.getDouble(i + 1);
+                    if (rs.wasNull() && projection.nullableDoubles()) {
+                        generator.writeNullField(fields[i]);
+                    } else {
+                        generator.writeNumberField(fields[i], value);
+                    }
+                } else {
+                    generator.writeStringField(fields[i], rs.getString(i + 1));
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
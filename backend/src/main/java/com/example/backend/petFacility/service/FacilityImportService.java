@@ -0,0 +1,421 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.petFacility.dto.FacilityImportResultDto;
+import com.example.backend.petFacility.dto.FacilitySyncResultDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.importer.FacilityCsvMapper;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+// 시설 CSV 일괄 등록 / 동기화
+// 1. CSV를 스트리밍으로 읽어 CHUNK_SIZE 행씩 묶고
+// 2. 묶음별 변환/검증은 CPU 코어 수만큼의 공용 워커 풀에서 병렬로 처리하고 (대기 중인 묶음 수를 제한해 메모리 일정)
+// 3. 결과는 읽은 순서대로 여러 행 VALUES INSERT로 모아서 한 트랜잭션에 저장한 뒤
+// 4. 인메모리 시설 인덱스를 갱신한다.
+// 등록(import)은 새 시설만 추가하고, 동기화(sync)는 기존 시설과 비교해 바뀐 행만 수정/추가/삭제한다.
+// 같은 시설 판단 기준은 시설명 + 시도 + 시군구 (FacilityCsvMapper.naturalKey)
+// 인코딩: BOM이 있으면 UTF-8, 없으면 요청에서 지정한 charset, 그것도 없으면 앞부분이 UTF-8로 읽히는지 보고 아니면 CP949
+// (공공데이터포털 CSV는 대부분 CP949)
+@Slf4j
+@Service
+public class FacilityImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int INSERT_BATCH = 500; // 31컬럼 x 500행 = 15,500 바인드 변수 (MariaDB 한도 65,535)
+    private static final int MAX_ERRORS = 20;    // 리포트에 담을 오류 행 수
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final int SNIFF_BYTES = 64 * 1024;
+    private static final Charset CP949 = Charset.forName("MS949");
+
+    private static final String INSERT_PREFIX = "INSERT INTO pet_facility ("
+            + String.join(", ", FacilityCsvMapper.COLUMNS.stream().map(FacilityCsvMapper.Column::dbColumn).toList())
+            + ") VALUES ";
+    private static final String VALUES_ROW = "(" + String.join(", ", Collections.nCopies(FacilityCsvMapper.COLUMNS.size(), "?")) + ")";
+    private static final String UPDATE_SQL = "UPDATE pet_facility SET "
+            + String.join(", ", FacilityCsvMapper.COLUMNS.stream().map(column -> column.dbColumn() + " = ?").toList())
+            + " WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PetFacilityIndexService petFacilityIndexService;
+
+    // 변환 워커 (요청마다 만들지 않고 공용으로, 대기열이 차면 요청 스레드가 직접 변환)
+    private final ExecutorService workers = new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PARALLELISM * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public FacilityImportService(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 PetFacilityIndexService petFacilityIndexService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.petFacilityIndexService = petFacilityIndexService;
+    }
+
+    // 묶음 하나의 변환 결과
+    private record ChunkResult(List<PetFacility> facilities, List<String> errors, int invalid, int truncated) {
+    }
+
+    // 진행 집계 (결과 처리는 한 스레드에서만 하므로 동기화 불필요)
+    private static class Stats {
+        int total;
+        int invalid;
+        int truncated;
+        List<String> errors = new ArrayList<>();
+    }
+
+    // 새 시설만 등록 (이미 있는 시설, 파일 안 중복 행은 건너뜀)
+    // charset이 null이면 인코딩 자동 판별
+    public FacilityImportResultDto importCsv(InputStream input, Charset charset) throws IOException {
+        long start = System.currentTimeMillis();
+
+        // 기존 시설 키는 현재 인덱스 스냅샷에서 가져온다 (DB 조회 없음)
+        Set<String> existingKeys = new HashSet<>();
+        petFacilityIndexService.getSnapshot().getFacilities()
+                .forEach(facility -> existingKeys.add(FacilityCsvMapper.naturalKey(facility)));
+        Set<String> seenKeys = new HashSet<>(); // 이번 파일에서 이미 나온 키
+
+        Stats stats = new Stats();
+        int[] counts = new int[3]; // 등록, 기존, 중복
+        List<PetFacility> pending = new ArrayList<>(INSERT_BATCH);
+        try (CSVParser parser = openParser(input, charset)) {
+            FacilityCsvMapper mapper = new FacilityCsvMapper(parser.getHeaderNames());
+            transactionTemplate.executeWithoutResult(status -> {
+                readRecords(parser, mapper, stats, facility -> {
+                    String key = FacilityCsvMapper.naturalKey(facility);
+                    if (existingKeys.contains(key)) {
+                        counts[1]++;
+                    } else if (!seenKeys.add(key)) {
+                        counts[2]++;
+                    } else {
+                        pending.add(facility);
+                        if (pending.size() == INSERT_BATCH) {
+                            counts[0] += insert(pending);
+                            pending.clear();
+                        }
+                    }
+                });
+                counts[0] += insert(pending);
+            });
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        int indexed = counts[0] > 0 ? petFacilityIndexService.refresh() : petFacilityIndexService.getSnapshot().size();
+        long rowsPerSecond = stats.total * 1000L / elapsed;
+        log.info("시설 CSV 등록 - 전체 {}행, 등록 {}, 기존 {}, 중복 {}, 오류 {}, {}ms ({}행/초)",
+                stats.total, counts[0], counts[1], counts[2], stats.invalid, elapsed, rowsPerSecond);
+
+        return FacilityImportResultDto.builder()
+                .totalRows(stats.total)
+                .inserted(counts[0])
+                .skippedExisting(counts[1])
+                .skippedDuplicate(counts[2])
+                .invalid(stats.invalid)
+                .truncatedValues(stats.truncated)
+                .errors(stats.errors)
+                .elapsedMs(elapsed)
+                .rowsPerSecond(rowsPerSecond)
+                .indexedFacilities(indexed)
+                .build();
+    }
+
+    // 전체 데이터셋 CSV와 기존 시설을 비교해 바뀐 행만 반영
+    // 행 내용 해시(FacilitySnapshot.fingerprint, 최종작성일 포함)가 같은 기존 시설이 있으면 변경 없음,
+    // 같은 키의 기존 시설이 남아 있으면 수정, 없으면 추가, 파일에 없는 기존 시설은 삭제한다.
+    // 리뷰가 달린 시설은 삭제하지 않고 남긴다 (review.facility_id 외래키).
+    // 즐겨찾기된 시설도 남긴다 (favorite는 시설 삭제 시 cascade로 지워져 회원 즐겨찾기가 조용히 사라지므로).
+    // 파일 행 수가 기존 시설의 절반도 안 되면 잘린 파일로 보고 삭제는 하지 않는다.
+    public FacilitySyncResultDto syncCsv(InputStream input, Charset charset, boolean dryRun) throws IOException {
+        long start = System.currentTimeMillis();
+        FacilitySnapshot current = petFacilityIndexService.getSnapshot();
+
+        Map<String, List<Integer>> existingByKey = new HashMap<>();
+        for (int ordinal = 0; ordinal < current.size(); ordinal++) {
+            existingByKey.computeIfAbsent(FacilityCsvMapper.naturalKey(current.get(ordinal)), key -> new ArrayList<>(1))
+                    .add(ordinal);
+        }
+        boolean[] matched = new boolean[current.size()];
+        Map<String, List<PetFacility>> unmatched = new LinkedHashMap<>(); // 내용이 같은 기존 시설이 없는 행
+        int[] unchanged = {0};
+
+        Stats stats = new Stats();
+        try (CSVParser parser = openParser(input, charset)) {
+            FacilityCsvMapper mapper = new FacilityCsvMapper(parser.getHeaderNames());
+            readRecords(parser, mapper, stats, facility -> {
+                String key = FacilityCsvMapper.naturalKey(facility);
+                long fingerprint = FacilitySnapshot.fingerprint(facility);
+                for (int ordinal : existingByKey.getOrDefault(key, List.of())) {
+                    if (!matched[ordinal] && current.getFingerprint(ordinal) == fingerprint) {
+                        matched[ordinal] = true;
+                        unchanged[0]++;
+                        return;
+                    }
+                }
+                unmatched.computeIfAbsent(key, k -> new ArrayList<>(1)).add(facility);
+            });
+        }
+
+        // 같은 키끼리 남은 기존 시설과 짝지어 수정, 짝이 없으면 추가
+        List<PetFacility> updates = new ArrayList<>();
+        List<PetFacility> inserts = new ArrayList<>();
+        unmatched.forEach((key, facilities) -> {
+            Iterator<Integer> candidates = existingByKey.getOrDefault(key, List.of()).stream()
+                    .filter(ordinal -> !matched[ordinal])
+                    .toList()
+                    .iterator();
+            for (PetFacility facility : facilities) {
+                if (candidates.hasNext()) {
+                    int ordinal = candidates.next();
+                    matched[ordinal] = true;
+                    facility.setId(current.get(ordinal).getId());
+                    updates.add(facility);
+                } else {
+                    inserts.add(facility);
+                }
+            }
+        });
+
+        List<Long> removed = new ArrayList<>();
+        for (int ordinal = 0; ordinal < current.size(); ordinal++) {
+            if (!matched[ordinal]) {
+                removed.add(current.get(ordinal).getId());
+            }
+        }
+        boolean deletesSkipped = !removed.isEmpty() && stats.total - stats.invalid < current.size() / 2;
+        if (deletesSkipped) {
+            log.warn("시설 CSV 동기화 - 파일 행 수({})가 기존 시설 수({})보다 너무 적어 삭제 {}건을 건너뜁니다.",
+                    stats.total, current.size(), removed.size());
+            removed.clear();
+        }
+
+        Set<Long> reviewed = removed.isEmpty() ? Set.of() : new HashSet<>(
+                jdbcTemplate.queryForList("SELECT DISTINCT facility_id FROM review", Long.class));
+        Set<Long> favorited = removed.isEmpty() ? Set.of() : new HashSet<>(
+                jdbcTemplate.queryForList("SELECT DISTINCT facility_id FROM favorite", Long.class));
+        List<Long> deletes = new ArrayList<>();
+        int keptReferenced = 0;
+        int keptFavorited = 0;
+        for (Long id : removed) {
+            if (reviewed.contains(id)) {
+                keptReferenced++;
+            } else if (favorited.contains(id)) {
+                keptFavorited++;
+            } else {
+                deletes.add(id);
+            }
+        }
+
+        Set<Long> changedIds = new LinkedHashSet<>();
+        updates.forEach(facility -> changedIds.add(facility.getId()));
+        changedIds.addAll(deletes);
+
+        if (!dryRun && (!updates.isEmpty() || !inserts.isEmpty() || !deletes.isEmpty())) {
+            List<Long> insertedIds = transactionTemplate.execute(status -> {
+                update(updates);
+                delete(deletes);
+                // AUTO_INCREMENT라서 기존 최대 id보다 큰 id가 이번에 추가된 행
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM pet_facility", Long.class);
+                for (int from = 0; from < inserts.size(); from += INSERT_BATCH) {
+                    insert(inserts.subList(from, Math.min(from + INSERT_BATCH, inserts.size())));
+                }
+                return inserts.isEmpty() ? List.<Long>of()
+                        : jdbcTemplate.queryForList("SELECT id FROM pet_facility WHERE id > ? ORDER BY id", Long.class, maxId);
+            });
+            changedIds.addAll(insertedIds);
+
+            Set<Long> upserted = new HashSet<>(insertedIds);
+            updates.forEach(facility -> upserted.add(facility.getId()));
+            petFacilityIndexService.applyChanges(upserted, deletes);
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("시설 CSV 동기화{} - 전체 {}행, 변경 없음 {}, 수정 {}, 추가 {}, 삭제 {}, 리뷰로 유지 {}, 즐겨찾기로 유지 {}, 오류 {}, {}ms",
+                dryRun ? "(미리보기)" : "", stats.total, unchanged[0], updates.size(), inserts.size(),
+                deletes.size(), keptReferenced, keptFavorited, stats.invalid, elapsed);
+
+        return FacilitySyncResultDto.builder()
+                .dryRun(dryRun)
+                .totalRows(stats.total)
+                .unchanged(unchanged[0])
+                .updated(updates.size())
+                .inserted(inserts.size())
+                .deleted(deletes.size())
+                .keptReferenced(keptReferenced)
+                .keptFavorited(keptFavorited)
+                .deletesSkipped(deletesSkipped)
+                .invalid(stats.invalid)
+                .truncatedValues(stats.truncated)
+                .errors(stats.errors)
+                .changedIds(changedIds)
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    private static CSVParser openParser(InputStream input, Charset charset) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input, SNIFF_BYTES);
+        Reader reader = new BufferedReader(new InputStreamReader(buffered, detectCharset(buffered, charset)));
+        return CSVParser.parse(reader, CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setAllowMissingColumnNames(true)
+                .build());
+    }
+
+    // BOM(건너뜀) > 지정한 charset > 앞부분이 올바른 UTF-8이면 UTF-8 > CP949
+    static Charset detectCharset(BufferedInputStream input, Charset requested) throws IOException {
+        input.mark(SNIFF_BYTES);
+        byte[] head = input.readNBytes(SNIFF_BYTES);
+        input.reset();
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            input.skipNBytes(3);
+            return StandardCharsets.UTF_8;
+        }
+        if (requested != null) {
+            return requested;
+        }
+        // 끝에서 잘린 멀티바이트 문자는 오류로 보지 않도록 endOfInput=false로 검사
+        CoderResult result = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(head), CharBuffer.allocate(head.length), head.length < SNIFF_BYTES);
+        return result.isError() ? CP949 : StandardCharsets.UTF_8;
+    }
+
+    // 레코드를 묶음 단위로 워커에 넘겨 변환하고, 변환된 시설을 파일 순서대로 sink에 전달 (sink는 호출 스레드에서 실행)
+    private void readRecords(CSVParser parser, FacilityCsvMapper mapper, Stats stats, Consumer<PetFacility> sink) {
+        Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+        try {
+            List<CSVRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (CSVRecord record : parser) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    List<CSVRecord> submitted = chunk;
+                    inFlight.add(workers.submit(() -> mapChunk(mapper, submitted)));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    // 변환이 저장보다 너무 앞서가지 않도록 오래된 묶음부터 처리
+                    if (inFlight.size() > PARALLELISM * 2) {
+                        collect(await(inFlight.poll()), stats, sink);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<CSVRecord> submitted = chunk;
+                inFlight.add(workers.submit(() -> mapChunk(mapper, submitted)));
+            }
+            while (!inFlight.isEmpty()) {
+                collect(await(inFlight.poll()), stats, sink);
+            }
+        } finally {
+            // 도중에 실패하면 남은 묶음은 취소 (공용 풀이므로 풀은 그대로 둔다)
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // 워커 스레드: 묶음 단위 변환/검증
+    private ChunkResult mapChunk(FacilityCsvMapper mapper, List<CSVRecord> records) {
+        List<PetFacility> facilities = new ArrayList<>(records.size());
+        List<String> errors = new ArrayList<>();
+        int[] truncated = {0};
+        int invalid = 0;
+        for (CSVRecord record : records) {
+            List<String> values = new ArrayList<>(record.size());
+            record.forEach(values::add);
+            try {
+                facilities.add(mapper.map(values, truncated));
+            } catch (IllegalArgumentException e) {
+                invalid++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.add((record.getRecordNumber() + 1) + "행: " + e.getMessage());
+                }
+            }
+        }
+        return new ChunkResult(facilities, errors, invalid, truncated[0]);
+    }
+
+    private void collect(ChunkResult result, Stats stats, Consumer<PetFacility> sink) {
+        stats.total += result.facilities().size() + result.invalid();
+        stats.invalid += result.invalid();
+        stats.truncated += result.truncated();
+        for (String error : result.errors()) {
+            if (stats.errors.size() < MAX_ERRORS) {
+                stats.errors.add(error);
+            }
+        }
+        result.facilities().forEach(sink);
+    }
+
+    // 여러 행 VALUES 한 문장으로 저장
+    private int insert(List<PetFacility> facilities) {
+        if (facilities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(facilities.size() * FacilityCsvMapper.COLUMNS.size());
+        for (int i = 0; i < facilities.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+            PetFacility facility = facilities.get(i);
+            for (FacilityCsvMapper.Column column : FacilityCsvMapper.COLUMNS) {
+                args.add(column.getter().apply(facility));
+            }
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void update(List<PetFacility> facilities) {
+        if (facilities.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(facilities.size());
+        for (PetFacility facility : facilities) {
+            Object[] args = new Object[FacilityCsvMapper.COLUMNS.size() + 1];
+            for (int c = 0; c < FacilityCsvMapper.COLUMNS.size(); c++) {
+                args[c] = FacilityCsvMapper.COLUMNS.get(c).getter().apply(facility);
+            }
+            args[args.length - 1] = facility.getId();
+            batch.add(args);
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+    }
+
+    private void delete(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += INSERT_BATCH) {
+            List<Long> part = ids.subList(from, Math.min(from + INSERT_BATCH, ids.size()));
+            jdbcTemplate.update("DELETE FROM pet_facility WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(part.size(), "?")) + ")", part.toArray());
+        }
+    }
+
+    private static ChunkResult await(Future<ChunkResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("CSV 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("CSV 행 변환 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
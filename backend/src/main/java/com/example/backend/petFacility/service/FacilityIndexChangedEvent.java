@@ -0,0 +1,17 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.petFacility.entity.PetFacility;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+// 시설 인덱스가 갱신되어 실제로 내용이 바뀐 시설이 있을 때 발행되는 이벤트
+// affectedFacilities에는 변경 전/후 버전이 모두 들어있어, 위치가 바뀐 시설도 양쪽 위치를 모두 알 수 있다.
+@Getter
+@RequiredArgsConstructor
+public class FacilityIndexChangedEvent {
+    private final Set<Long> changedIds;
+    private final List<PetFacility> affectedFacilities;
+}
@@ -0,0 +1,13 @@
+package com.example.backend.petFacility.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+// 리뷰 작성/수정/삭제 또는 재계산으로 시설 평점 집계가 바뀌었을 때 (메모리 집계 갱신 후) 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class FacilityRatingChangedEvent {
+    private final Set<Long> facilityIds;
+}
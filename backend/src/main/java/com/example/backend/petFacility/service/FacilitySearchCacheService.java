@@ -0,0 +1,150 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.common.SingleFlight;
+import com.example.backend.common.WeightedLruCache;
+import com.example.backend.petFacility.dto.PetFacilitySearchDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// 통합검색(/search) 결과 페이지 캐시
+// 검색 요청은 "지역 + 카테고리, 검색어 없음" 같은 소수의 조합이 대부분이라 결과 페이지를 그대로 재사용한다.
+// 키는 정규화한 필터 조합(공백 제거, 소문자, 정렬된 집합) + 페이지 + 정렬.
+// 시설이 바뀌면 그 시설이 (변경 전/후에) 조건에 맞을 수 있는 항목만 무효화한다.
+// 캐시에 없는 같은 조건이 동시에 들어오면(첫 화면 진입 등) 한 번만 계산해 함께 쓴다.
+@Slf4j
+@Service
+public class FacilitySearchCacheService {
+
+    private static final int FULL_INVALIDATION_THRESHOLD = 1000;
+
+    private final PetFacilityIndexService petFacilityIndexService;
+    private final FacilityStatsService facilityStatsService;
+    private final WeightedLruCache<SearchKey, Page<PetFacilitySearchDto>> cache;
+    private final SingleFlight<SearchKey, Page<PetFacilitySearchDto>> loading = new SingleFlight<>();
+
+    public FacilitySearchCacheService(PetFacilityIndexService petFacilityIndexService,
+                                      FacilityStatsService facilityStatsService,
+                                      @Value("${pet-facility.search-cache.max-facilities:50000}") long maxFacilities) {
+        this.petFacilityIndexService = petFacilityIndexService;
+        this.facilityStatsService = facilityStatsService;
+        // 페이지 무게 = 담긴 시설 수 (+1은 빈 결과도 자리를 차지하도록)
+        this.cache = new WeightedLruCache<>(maxFacilities, page -> page.getNumberOfElements() + 1);
+    }
+
+    // 정규화된 검색 조건
+    public record SearchKey(String searchQuery, String sidoName, String sigunguName,
+                            List<String> category2, Integer petSizeMask,
+                            String parkingAvailable, String indoorFacility, String outdoorFacility,
+                            Double minRating, int page, int size, String sort) {
+
+        public static SearchKey of(String searchQuery, String sidoName, String sigunguName,
+                                   Set<String> category2, Integer petSizeMask,
+                                   String parkingAvailable, String indoorFacility, String outdoorFacility,
+                                   Double minRating, Pageable pageable) {
+            List<String> categories = category2 == null ? null : category2.stream()
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .sorted()
+                    .distinct()
+                    .toList();
+            return new SearchKey(normalize(searchQuery), normalize(sidoName), normalize(sigunguName),
+                    categories == null || categories.isEmpty() ? null : categories, petSizeMask,
+                    normalize(parkingAvailable), normalize(indoorFacility), normalize(outdoorFacility),
+                    minRating, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        }
+
+        // 이 시설이 조건에 맞을 수 있는지 (펫 사이즈는 분류 기준이 바뀔 수 있어 조건이 있으면 항상 true, 평점 조건은 보지 않음)
+        boolean mayContain(PetFacility facility) {
+            if (petSizeMask != null) {
+                return true;
+            }
+            if (category2 != null && !category2.contains(facility.getCategory2())) {
+                return false;
+            }
+            if (!contains(facility.getSidoName(), sidoName)
+                    || !contains(facility.getSigunguName(), sigunguName)
+                    || !contains(facility.getParkingAvailable(), parkingAvailable)
+                    || !contains(facility.getIndoorFacility(), indoorFacility)
+                    || !contains(facility.getOutdoorFacility(), outdoorFacility)) {
+                return false;
+            }
+            // 검색어는 DB 검색과 인메모리 검색 중 넓은 쪽(DB 쿼리의 검색 대상 컬럼) 기준
+            return searchQuery == null || Stream.of(facility.getName(), facility.getCategory2(), facility.getCategory3(),
+                            facility.getRoadAddress(), facility.getJibunAddress(), facility.getBunji(),
+                            facility.getRoadName(), facility.getAllowedPetSize(), facility.getDescription())
+                    .anyMatch(value -> value != null && value.toLowerCase().contains(searchQuery));
+        }
+
+        private static boolean contains(String value, String keyword) {
+            return keyword == null || (value != null && value.toLowerCase().contains(keyword));
+        }
+
+        private static String normalize(String value) {
+            if (value == null) {
+                return null;
+            }
+            String trimmed = value.trim().toLowerCase();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+    }
+
+    public Page<PetFacilitySearchDto> get(SearchKey key, Supplier<Page<PetFacilitySearchDto>> loader) {
+        Page<PetFacilitySearchDto> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return loading.run(key, () -> {
+            FacilitySnapshot snapshot = petFacilityIndexService.getSnapshot();
+            long ratingVersion = facilityStatsService.getVersion();
+            Page<PetFacilitySearchDto> page = loader.get();
+            cache.put(key, page);
+            // 계산 도중 인덱스나 평점 집계가 바뀌었다면 이전 데이터 기준 결과가 남지 않도록 제거
+            if (petFacilityIndexService.getSnapshot() != snapshot || facilityStatsService.getVersion() != ratingVersion) {
+                cache.invalidate(key);
+            }
+            return page;
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(cache.stats());
+        stats.put("loading", loading.stats());
+        return stats;
+    }
+
+    @EventListener
+    public void onFacilityIndexChanged(FacilityIndexChangedEvent event) {
+        List<PetFacility> affected = event.getAffectedFacilities();
+        if (affected.size() > FULL_INVALIDATION_THRESHOLD) {
+            cache.invalidateAll(); // 대량 변경(CSV 동기화 등)은 항목별로 따지는 것보다 비우는 편이 싸다
+        } else {
+            cache.invalidateIf(key -> affected.stream().anyMatch(key::mayContain));
+        }
+        log.debug("검색 캐시 무효화 - 시설 {}건", event.getChangedIds().size());
+    }
+
+    // 평점이 바뀐 시설: 결과에 평점이 들어 있고 평점 조건/정렬에도 영향을 주므로 그 시설을 담을 수 있는 항목 무효화
+    @EventListener
+    public void onFacilityRatingChanged(FacilityRatingChangedEvent event) {
+        if (event.getFacilityIds().size() > FULL_INVALIDATION_THRESHOLD) {
+            cache.invalidateAll();
+            return;
+        }
+        FacilitySnapshot snapshot = petFacilityIndexService.getSnapshot();
+        List<PetFacility> affected = event.getFacilityIds().stream()
+                .map(snapshot::findById)
+                .flatMap(Optional::stream)
+                .toList();
+        cache.invalidateIf(key -> affected.stream().anyMatch(key::mayContain));
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.petFacility.entity.FacilityStats;
+import com.example.backend.petFacility.index.FacilityRating;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import com.example.backend.petFacility.repository.FacilityStatsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 시설별 리뷰 집계 (facility_stats)
+// 리뷰가 바뀔 때(회원 탈퇴로 리뷰가 함께 지워질 때 포함) 그 트랜잭션 안에서 집계 행을 원자적으로 증감하고, 커밋된 뒤 해당 시설의 메모리 사본만 다시 읽는다.
+// 검색/지도는 메모리 사본으로 평점 필터/정렬을 하므로 AVG/COUNT 쿼리가 필요 없다.
+// 집계가 어긋날 수 있는 경로(직접 SQL 수정 등)에 대비해 매일 새벽 review 기준으로 전체 재계산한다.
+@Slf4j
+@Service
+public class FacilityStatsService {
+
+    private final FacilityStatsRepository facilityStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    private volatile Map<Long, FacilityRating> ratings = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(); // 메모리 집계가 바뀔 때마다 증가 (캐시 검증용)
+
+    public FacilityStatsService(FacilityStatsRepository facilityStatsRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.facilityStatsRepository = facilityStatsRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋 이후 콜백에서 읽을 때는 끝난 트랜잭션의 영속성 컨텍스트를 쓰지 않도록 새 트랜잭션으로
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.newTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        ratings = loadAll();
+        log.info("시설 평점 집계 로드 - {}건", ratings.size());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public FacilityRating getRating(Long facilityId) {
+        return ratings.getOrDefault(facilityId, FacilityRating.NONE);
+    }
+
+    // 평점별 개수까지 필요한 화면용 (DB 행 그대로)
+    public Optional<FacilityStats> findStats(Long facilityId) {
+        return facilityStatsRepository.findById(facilityId);
+    }
+
+    // 평균 평점이 minRating 이상인 시설 (리뷰 있는 시설만 보면 되므로 시설 전체를 돌지 않음)
+    // minRating이 0 이하면 조건 없음 (리뷰 없는 시설도 포함)
+    public BitSet ratedAtLeast(FacilitySnapshot snapshot, double minRating) {
+        BitSet result = new BitSet(snapshot.size());
+        if (minRating <= 0) {
+            result.set(0, snapshot.size());
+            return result;
+        }
+        ratings.forEach((facilityId, rating) -> {
+            Integer ordinal = snapshot.ordinalOf(facilityId);
+            if (ordinal != null && rating.reviewCount() > 0 && rating.average() >= minRating) {
+                result.set(ordinal);
+            }
+        });
+        return result;
+    }
+
+    // ReviewService의 트랜잭션 안에서 호출
+    public void reviewAdded(Long facilityId, int rating) {
+        apply(facilityId, rating, 1);
+    }
+
+    public void reviewRemoved(Long facilityId, int rating) {
+        apply(facilityId, rating, -1);
+    }
+
+    // 회원 탈퇴 (MemberService의 트랜잭션 안에서 회원 삭제 전에 호출) - 그 회원의 리뷰가 모두 cascade로 지워지므로 미리 차감
+    public void memberRemoved(String memberEmail) {
+        Set<Long> facilityIds = new HashSet<>(facilityStatsRepository.findFacilityIdsReviewedBy(memberEmail));
+        if (facilityIds.isEmpty()) {
+            return;
+        }
+        facilityStatsRepository.subtractReviewsByMemberEmail(memberEmail);
+        reloadAfterCommit(facilityIds);
+    }
+
+    private void apply(Long facilityId, int rating, int delta) {
+        facilityStatsRepository.addReview(facilityId, rating, delta);
+        reloadAfterCommit(Set.of(facilityId));
+    }
+
+    // 롤백되면 메모리 사본도 그대로 두도록 커밋 이후에 반영
+    private void reloadAfterCommit(Set<Long> facilityIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload(facilityIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload(facilityIds);
+            }
+        });
+    }
+
+    private synchronized void reload(Set<Long> facilityIds) {
+        List<FacilityStats> rows = newTransactionTemplate.execute(status ->
+                facilityStatsRepository.findAllById(facilityIds));
+        Map<Long, FacilityRating> loaded = rows.stream()
+                .collect(Collectors.toMap(FacilityStats::getFacilityId, FacilityRating::of));
+        for (Long facilityId : facilityIds) {
+            FacilityRating rating = loaded.get(facilityId);
+            if (rating == null) {
+                ratings.remove(facilityId);
+            } else {
+                ratings.put(facilityId, rating);
+            }
+        }
+        version.incrementAndGet();
+        eventPublisher.publishEvent(new FacilityRatingChangedEvent(facilityIds));
+    }
+
+    // review 테이블 기준 전체 재계산 (매일 새벽 + 관리자 수동 실행)
+    @Scheduled(cron = "${pet-facility.stats.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        Integer rows = transactionTemplate.execute(status -> {
+            facilityStatsRepository.deleteAllStats();
+            return facilityStatsRepository.rebuildFromReviews();
+        });
+
+        Map<Long, FacilityRating> previous = ratings;
+        Map<Long, FacilityRating> rebuilt = loadAll();
+        ratings = rebuilt;
+        version.incrementAndGet();
+
+        // 재계산 전후로 값이 달라진 시설 = 그동안 집계가 어긋나 있던 시설
+        Set<Long> changed = new HashSet<>();
+        previous.forEach((id, rating) -> {
+            if (!rating.equals(rebuilt.get(id))) {
+                changed.add(id);
+            }
+        });
+        rebuilt.forEach((id, rating) -> {
+            if (!previous.containsKey(id)) {
+                changed.add(id);
+            }
+        });
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new FacilityRatingChangedEvent(changed));
+        }
+        log.info("시설 평점 집계 재계산 - {}건, 보정 {}건, {}ms", rows, changed.size(), System.currentTimeMillis() - start);
+        return rows == null ? 0 : rows;
+    }
+
+    private Map<Long, FacilityRating> loadAll() {
+        List<FacilityStats> rows = newTransactionTemplate.execute(status -> facilityStatsRepository.findAll());
+        return rows.stream().collect(Collectors.toMap(
+                FacilityStats::getFacilityId, FacilityRating::of, (a, b) -> a, ConcurrentHashMap::new));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.common.WeightedLruCache;
+import com.example.backend.petFacility.dto.PetFacilitySearchDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// z/x/y 타일 단위 시설 캐시
+// 화면 범위가 조금씩 달라도 같은 타일은 한 번만 계산해서 재사용하고, 타일 내용 기반 ETag로 304 응답이 가능하게 한다.
+// 시설이 바뀌면 그 시설이 (변경 전/후에) 속한 타일만 무효화한다.
+@Slf4j
+@Service
+public class FacilityTileService {
+
+    public static final int MIN_ZOOM = 10; // 이보다 넓은 화면은 /clusters 사용
+    public static final int MAX_ZOOM = 20;
+
+    private final PetFacilityIndexService petFacilityIndexService;
+    private final WeightedLruCache<String, FacilityTile> cache;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class FacilityTile {
+        private final String etag;
+        private final List<PetFacilitySearchDto> facilities;
+    }
+
+    public FacilityTileService(PetFacilityIndexService petFacilityIndexService,
+                               @Value("${pet-facility.tile-cache.max-facilities:200000}") long maxFacilities) {
+        this.petFacilityIndexService = petFacilityIndexService;
+        // 타일 무게 = 담긴 시설 수 (+1은 빈 타일도 자리를 차지하도록)
+        this.cache = new WeightedLruCache<>(maxFacilities, tile -> tile.getFacilities().size() + 1);
+    }
+
+    public FacilityTile getTile(int z, int x, int y) {
+        int tiles = 1 << Math.max(0, Math.min(z, MAX_ZOOM));
+        if (z < MIN_ZOOM || z > MAX_ZOOM || x < 0 || y < 0 || x >= tiles || y >= tiles) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 타일 좌표입니다.");
+        }
+
+        String key = key(z, x, y);
+        FacilityTile tile = cache.get(key);
+        if (tile == null) {
+            FacilitySnapshot snapshot = petFacilityIndexService.getSnapshot();
+            tile = buildTile(snapshot, z, x, y);
+            cache.put(key, tile);
+            // 계산 도중 인덱스가 교체됐다면 이전 스냅샷 기준 타일이 남지 않도록 제거
+            if (petFacilityIndexService.getSnapshot() != snapshot) {
+                cache.invalidate(key);
+            }
+        }
+        return tile;
+    }
+
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    // 변경된 시설이 속한 타일만 모든 줌에서 무효화
+    @EventListener
+    public void onFacilityIndexChanged(FacilityIndexChangedEvent event) {
+        Set<String> keys = new HashSet<>();
+        for (PetFacility facility : event.getAffectedFacilities()) {
+            for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+                keys.add(key(z, tileX(facility.getLongitude(), z), tileY(facility.getLatitude(), z)));
+            }
+        }
+        keys.forEach(cache::invalidate);
+        log.debug("타일 캐시 무효화 - 시설 {}건, 타일 {}개", event.getChangedIds().size(), keys.size());
+    }
+
+    private FacilityTile buildTile(FacilitySnapshot snapshot, int z, int x, int y) {
+        double west = tileLng(x, z);
+        double east = tileLng(x + 1, z);
+        double north = tileLat(y, z);
+        double south = tileLat(y + 1, z);
+
+        List<PetFacilitySearchDto> facilities = new ArrayList<>();
+        long hash = 0xcbf29ce484222325L;
+        for (int ordinal : snapshot.inBounds(south, north, west, east)) {
+            PetFacility facility = snapshot.get(ordinal);
+            // 경계에 걸친 시설이 두 타일에 중복되지 않도록 타일 번호로 다시 확인
+            if (tileX(facility.getLongitude(), z) != x || tileY(facility.getLatitude(), z) != y) {
+                continue;
+            }
+            facilities.add(PetFacilitySearchDto.fromEntity(facility));
+            hash = (hash ^ snapshot.getFingerprint(ordinal)) * 0x100000001b3L;
+        }
+        String etag = "\"" + z + "-" + x + "-" + y + "-" + Long.toHexString(hash) + "\"";
+        return new FacilityTile(etag, List.copyOf(facilities));
+    }
+
+    private static String key(int z, int x, int y) {
+        return z + "/" + x + "/" + y;
+    }
+
+    // 슬리피맵(XYZ) 타일 좌표 변환
+    private static int tileX(double lng, int z) {
+        int tiles = 1 << z;
+        return Math.max(0, Math.min(tiles - 1, (int) Math.floor((lng + 180.0) / 360.0 * tiles)));
+    }
+
+    private static int tileY(double lat, int z) {
+        int tiles = 1 << z;
+        double rad = Math.toRadians(lat);
+        double y = (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * tiles;
+        return Math.max(0, Math.min(tiles - 1, (int) Math.floor(y)));
+    }
+
+    private static double tileLng(int x, int z) {
+        return x / (double) (1 << z) * 360.0 - 180.0;
+    }
+
+    private static double tileLat(int y, int z) {
+        double n = Math.PI - 2.0 * Math.PI * y / (1 << z);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+}
@@ -0,0 +1,462 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.petFacility.dto.FacilityClusterDto;
+import com.example.backend.petFacility.dto.FacilityCursorPageDto;
+import com.example.backend.petFacility.dto.FacilityFacetResultDto;
+import com.example.backend.petFacility.dto.FacilityViewportDiffDto;
+import com.example.backend.petFacility.dto.NearbyFacilityDto;
+import com.example.backend.petFacility.dto.PetFacilitySearchDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilityCursor;
+import com.example.backend.petFacility.index.FacilityFilter;
+import com.example.backend.petFacility.index.FacilityRating;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import com.example.backend.petFacility.index.FacilityTextIndex;
+import com.example.backend.petFacility.index.FacilityViewport;
+import com.example.backend.petFacility.index.HangulJamo;
+import com.example.backend.petFacility.index.PetSizeClassifier;
+import com.example.backend.petFacility.repository.PetFacilityRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 지도/검색용 시설 인메모리 인덱스
+// 서버 시작 시 pet_facility 전체를 읽어 스냅샷을 만들고, 데이터가 바뀌면 refresh()로 통째로 교체한다.
+// 조회는 항상 volatile 스냅샷 하나만 보므로 갱신 중에도 락 없이 읽을 수 있다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PetFacilityIndexService {
+
+    private final PetFacilityRepository petFacilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FacilityStatsService facilityStatsService;
+
+    public static final String RELEVANCE = "relevance";
+    public static final String RATING = "rating";
+
+    private volatile FacilitySnapshot snapshot = FacilitySnapshot.empty();
+    private volatile PetSizeClassifier petSizeClassifier = PetSizeClassifier.defaults();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    // DB에서 시설 전체를 다시 읽어 인덱스 재생성
+    public synchronized int refresh() {
+        long start = System.currentTimeMillis();
+        List<PetFacility> rows = petFacilityRepository.findAll();
+        replaceSnapshot(FacilitySnapshot.of(rows, petSizeClassifier));
+        log.info("시설 인덱스 갱신 - {}건, {}ms", rows.size(), System.currentTimeMillis() - start);
+        return rows.size();
+    }
+
+    // 일부 시설만 바뀌었을 때: 바뀐 행만 DB에서 읽어 현재 스냅샷에 합친다 (전체 재조회 없음)
+    // 변경 이벤트에는 실제로 내용이 달라진 시설만 담긴다
+    public synchronized int applyChanges(Collection<Long> upsertedIds, Collection<Long> deletedIds) {
+        if (upsertedIds.isEmpty() && deletedIds.isEmpty()) {
+            return snapshot.size();
+        }
+        long start = System.currentTimeMillis();
+        Map<Long, PetFacility> byId = new LinkedHashMap<>();
+        snapshot.getFacilities().forEach(facility -> byId.put(facility.getId(), facility));
+        deletedIds.forEach(byId::remove);
+        petFacilityRepository.findAllById(upsertedIds).forEach(facility -> byId.put(facility.getId(), facility));
+
+        replaceSnapshot(FacilitySnapshot.of(byId.values(), petSizeClassifier));
+        log.info("시설 인덱스 부분 갱신 - 추가/수정 {}건, 삭제 {}건, {}ms",
+                upsertedIds.size(), deletedIds.size(), System.currentTimeMillis() - start);
+        return byId.size();
+    }
+
+    // 펫 사이즈 키워드가 바뀌었을 때 DB를 다시 읽지 않고 분류만 다시 계산
+    // 분류가 달라진 시설은 변경 이벤트로 알린다
+    public synchronized Map<String, Object> reclassifyPetSizes(PetSizeClassifier classifier) {
+        FacilitySnapshot previous = snapshot;
+        FacilitySnapshot next = previous.withPetSizeClassifier(classifier);
+        petSizeClassifier = classifier;
+        snapshot = next;
+
+        Set<Long> changedIds = new HashSet<>();
+        List<PetFacility> affected = new ArrayList<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        PetSizeClassifier.CATEGORY_BITS.keySet().forEach(category -> counts.put(category, 0));
+        for (int ordinal = 0; ordinal < next.size(); ordinal++) {
+            int mask = next.getPetSizeMask(ordinal);
+            if (mask != previous.getPetSizeMask(ordinal)) {
+                changedIds.add(next.get(ordinal).getId());
+                affected.add(next.get(ordinal));
+            }
+            PetSizeClassifier.CATEGORY_BITS.forEach((category, bit) -> {
+                if ((mask & bit) != 0) counts.merge(category, 1, Integer::sum);
+            });
+        }
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new FacilityIndexChangedEvent(changedIds, affected));
+        }
+        log.info("펫 사이즈 재분류 - 변경 {}건, 분포 {}", changedIds.size(), counts);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("changed", changedIds.size());
+        result.put("categories", counts);
+        return result;
+    }
+
+    public PetSizeClassifier getPetSizeClassifier() {
+        return petSizeClassifier;
+    }
+
+    // 스냅샷 교체 후, 내용이 바뀐 시설만 골라 캐시 등에 알림
+    private void replaceSnapshot(FacilitySnapshot next) {
+        FacilitySnapshot previous = snapshot;
+        snapshot = next;
+
+        Set<Long> changedIds = new HashSet<>();
+        List<PetFacility> affected = new ArrayList<>();
+        for (PetFacility facility : next.getFacilities()) {
+            Integer before = previous.ordinalOf(facility.getId());
+            if (before == null) {
+                changedIds.add(facility.getId());
+                affected.add(facility);
+            } else if (previous.getFingerprint(before) != next.getFingerprint(next.ordinalOf(facility.getId()))) {
+                changedIds.add(facility.getId());
+                affected.add(previous.get(before));
+                affected.add(facility);
+            }
+        }
+        for (PetFacility facility : previous.getFacilities()) {
+            if (next.ordinalOf(facility.getId()) == null) {
+                changedIds.add(facility.getId());
+                affected.add(facility);
+            }
+        }
+
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new FacilityIndexChangedEvent(changedIds, affected));
+        }
+    }
+
+    public FacilitySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // 지도 화면 범위 내 시설 검색 (이름순, 최대 limit개)
+    public List<PetFacility> findInBounds(double southWestLat, double northEastLat,
+                                          double southWestLng, double northEastLng,
+                                          FacilityFilter filter, int limit) {
+        FacilitySnapshot current = snapshot;
+        BitSet matched = matchInBounds(current, southWestLat, northEastLat, southWestLng, northEastLng,
+                select(current, filter), filter, limit);
+
+        List<PetFacility> result = new ArrayList<>(matched.cardinality());
+        for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+            result.add(current.get(ordinal));
+        }
+        return result;
+    }
+
+    // 지도 이동 시 이전 화면(previous) 결과와 새 화면(next) 결과의 차이만 계산
+    // 연속으로 움직일 때 두 화면은 대부분 겹치므로 새로 들어온 시설과 빠진 id만 내려준다.
+    // 이전 화면이 없거나 토큰 발급 이후 스냅샷이 바뀌었으면 이전 결과를 재현할 수 없어 전체를 다시 보낸다(reset).
+    public FacilityViewportDiffDto diffInBounds(FacilityViewport previous, FacilityViewport next) {
+        FacilitySnapshot current = snapshot;
+        FacilityFilter filter = next.toFilter();
+        BitSet allowed = select(current, filter);
+        BitSet nextMatched = matchInBounds(current, next.getSouthWestLat(), next.getNorthEastLat(),
+                next.getSouthWestLng(), next.getNorthEastLng(), allowed, filter, next.getLimit());
+
+        boolean reset = previous == null || previous.getSnapshotVersion() != current.getVersion();
+        BitSet added = (BitSet) nextMatched.clone();
+        List<Long> removedIds = new ArrayList<>();
+        if (!reset) {
+            FacilityFilter previousFilter = previous.hasSameFilter(next) ? filter : previous.toFilter();
+            BitSet previousMatched = matchInBounds(current, previous.getSouthWestLat(), previous.getNorthEastLat(),
+                    previous.getSouthWestLng(), previous.getNorthEastLng(),
+                    previousFilter == filter ? allowed : select(current, previousFilter),
+                    previousFilter, previous.getLimit());
+            added.andNot(previousMatched);
+            previousMatched.andNot(nextMatched);
+            previousMatched.stream().forEach(ordinal -> removedIds.add(current.get(ordinal).getId()));
+        }
+
+        return FacilityViewportDiffDto.builder()
+                .reset(reset)
+                .added(added.stream()
+                        .mapToObj(ordinal -> toSearchDto(current.get(ordinal)))
+                        .toList())
+                .removedIds(removedIds)
+                .total(nextMatched.cardinality())
+                .viewport(next.withSnapshotVersion(current.getVersion()).encode())
+                .build();
+    }
+
+    // 범위 안에서 조건에 맞는 시설 ordinal (이름순 앞에서부터 최대 limit개)
+    private static BitSet matchInBounds(FacilitySnapshot current, double southWestLat, double northEastLat,
+                                        double southWestLng, double northEastLng,
+                                        BitSet allowed, FacilityFilter filter, int limit) {
+        BitSet result = new BitSet();
+        int count = 0;
+        for (int ordinal : current.inBounds(southWestLat, northEastLat, southWestLng, northEastLng)) {
+            if (count >= limit) {
+                break;
+            }
+            if (allowed.get(ordinal) && filter.matchesSearchQuery(current.get(ordinal))) {
+                result.set(ordinal);
+                count++;
+            }
+        }
+        return result;
+    }
+
+    // 기준 좌표에서 가까운 순으로 필터에 맞는 시설 k개 (maxDistanceMeters 이내)
+    public List<NearbyFacilityDto> findNearest(double lat, double lng, FacilityFilter filter,
+                                               int k, double maxDistanceMeters) {
+        FacilitySnapshot current = snapshot;
+        BitSet allowed = select(current, filter);
+        List<NearbyFacilityDto> result = new ArrayList<>(k);
+
+        current.nearest(lat, lng, maxDistanceMeters, (ordinal, distance) -> {
+            PetFacility facility = current.get(ordinal);
+            if (allowed.get(ordinal) && filter.matchesSearchQuery(facility)) {
+                result.add(NearbyFacilityDto.builder()
+                        .facility(toSearchDto(facility))
+                        .distanceMeters(Math.round(distance * 10) / 10.0)
+                        .build());
+            }
+            return result.size() < k;
+        });
+        return result;
+    }
+
+    // 인메모리 통합검색이 처리할 수 있는 정렬인지 (이름순 / 관련도순 / 평점순)
+    public boolean supportsSort(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("name")
+                || order.getProperty().equals(RELEVANCE) || order.getProperty().equals(RATING));
+    }
+
+    // 통합검색: 필터 조건은 패싯 비트맵으로, 검색어는 바이그램 역색인으로 처리 (검색어는 없어도 됨)
+    // sort=relevance면 관련도 점수순(검색어가 없으면 방향과 관계없이 이름순), 그 외에는 이름순
+    public Page<PetFacility> search(String searchQuery, FacilityFilter filter, Pageable pageable) {
+        FacilitySnapshot current = snapshot;
+        FacilityTextIndex textIndex = current.getTextIndex();
+
+        int[] matched = matchOrdinals(current, searchQuery, filter);
+
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(null);
+        boolean relevance = order != null && order.getProperty().equals(RELEVANCE);
+        if (relevance && searchQuery != null) {
+            int[] scores = new int[current.size()];
+            for (int ordinal : matched) {
+                scores[ordinal] = textIndex.score(ordinal, searchQuery);
+            }
+            matched = Arrays.stream(matched).boxed()
+                    .sorted(Comparator.comparingInt((Integer ordinal) -> -scores[ordinal])
+                            .thenComparingInt(ordinal -> ordinal))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        } else if (order != null && order.getProperty().equals(RATING)) {
+            // 평균 평점 → 리뷰 수 → 이름순 (평점은 메모리 집계라 추가 쿼리 없음)
+            Comparator<FacilityRating> byRating = Comparator.comparingDouble(FacilityRating::average)
+                    .thenComparingInt(FacilityRating::reviewCount);
+            Comparator<FacilityRating> ratingOrder = order.isDescending() ? byRating.reversed() : byRating;
+            FacilityRating[] ratings = new FacilityRating[current.size()];
+            for (int ordinal : matched) {
+                ratings[ordinal] = facilityStatsService.getRating(current.get(ordinal).getId());
+            }
+            matched = Arrays.stream(matched).boxed()
+                    .sorted(Comparator.comparing((Integer ordinal) -> ratings[ordinal], ratingOrder)
+                            .thenComparingInt(ordinal -> ordinal))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        } else if (!relevance && order != null && order.isDescending()) {
+            reverse(matched);
+        }
+
+        return toPage(current, matched, pageable);
+    }
+
+    // 이름순 키셋 페이지네이션: 커서 위치로 바로 이동해서 size개만 읽는다 (앞 페이지를 건너뛰는 비용 없음)
+    // 전체 건수는 withTotal=true일 때만 센다
+    public FacilityCursorPageDto scroll(String searchQuery, FacilityFilter filter,
+                                        FacilityCursor after, int size, boolean withTotal) {
+        FacilitySnapshot current = snapshot;
+        int from = after == null ? 0 : current.seekAfter(after);
+        BitSet selected = select(current, filter);
+
+        List<PetFacilitySearchDto> content = new ArrayList<>(size);
+        PetFacility last = null;
+        boolean hasMore = false;
+        Integer total = null;
+
+        if (searchQuery == null) {
+            for (int ordinal = selected.nextSetBit(from); ordinal >= 0; ordinal = selected.nextSetBit(ordinal + 1)) {
+                if (content.size() == size) {
+                    hasMore = true;
+                    break;
+                }
+                last = current.get(ordinal);
+                content.add(toSearchDto(last));
+            }
+            if (withTotal) {
+                total = selected.cardinality();
+            }
+        } else {
+            int[] matched = current.getTextIndex().match(searchQuery);
+            int start = Arrays.binarySearch(matched, from);
+            for (int i = start < 0 ? -start - 1 : start; i < matched.length; i++) {
+                if (!selected.get(matched[i])) {
+                    continue;
+                }
+                if (content.size() == size) {
+                    hasMore = true;
+                    break;
+                }
+                last = current.get(matched[i]);
+                content.add(toSearchDto(last));
+            }
+            if (withTotal) {
+                total = (int) Arrays.stream(matched).filter(selected::get).count();
+            }
+        }
+
+        return FacilityCursorPageDto.builder()
+                .content(content)
+                .nextCursor(hasMore ? new FacilityCursor(last.getName(), last.getId()).encode() : null)
+                .total(total)
+                .build();
+    }
+
+    // 조건에 맞는 시설 id와 필터 항목별 결과 수 (검색 화면의 "N건" 표시용)
+    public FacilityFacetResultDto facets(String searchQuery, FacilityFilter filter, int limit) {
+        FacilitySnapshot current = snapshot;
+        int[] matched = matchOrdinals(current, searchQuery, filter);
+
+        List<Long> ids = new ArrayList<>(Math.min(limit, matched.length));
+        for (int i = 0; i < matched.length && i < limit; i++) {
+            ids.add(current.get(matched[i]).getId());
+        }
+        BitSet base = searchQuery == null ? null : toBitSet(current.getTextIndex().match(searchQuery));
+        if (filter.getOpenAt() != null) {
+            // 영업시간은 패싯 항목이 아니라서 항목별 결과 수의 기준 집합에 포함
+            BitSet open = current.getOpeningHoursIndex().openAt(filter.getOpenAt());
+            if (base == null) {
+                base = open;
+            } else {
+                base.and(open);
+            }
+        }
+
+        return FacilityFacetResultDto.builder()
+                .total(matched.length)
+                .ids(ids)
+                .facets(current.getFacetIndex().counts(filter, base))
+                .build();
+    }
+
+    // 검색/지도 응답용 DTO: 메모리 평점 집계를 함께 담는다 (추가 쿼리 없음)
+    private PetFacilitySearchDto toSearchDto(PetFacility facility) {
+        return PetFacilitySearchDto.fromEntity(facility, facilityStatsService.getRating(facility.getId()));
+    }
+
+    // 필터(비트맵)와 검색어(역색인)를 모두 만족하는 ordinal (이름순)
+    // 스냅샷 조건(패싯 비트맵, 영업시간) + 평점 조건
+    private BitSet select(FacilitySnapshot current, FacilityFilter filter) {
+        BitSet selected = current.select(filter);
+        if (filter.getMinRating() != null) {
+            selected.and(facilityStatsService.ratedAtLeast(current, filter.getMinRating()));
+        }
+        return selected;
+    }
+
+    private int[] matchOrdinals(FacilitySnapshot current, String searchQuery, FacilityFilter filter) {
+        BitSet selected = select(current, filter);
+        if (searchQuery == null) {
+            return selected.stream().toArray();
+        }
+        return Arrays.stream(current.getTextIndex().match(searchQuery))
+                .filter(selected::get)
+                .toArray();
+    }
+
+    private static BitSet toBitSet(int[] ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+
+    // 검색창 자동완성: 시설명 접두 > 시설명 포함 > 카테고리 접두 > 그 외 순, 같은 단계는 이름순
+    // 자음만 입력하면 초성 검색, 일치하는 시설이 없으면 자모 편집거리 1 이내 오타 허용 검색으로 보완
+    public List<PetFacility> suggest(String query, int limit) {
+        FacilitySnapshot current = snapshot;
+        int[] ordinals;
+        if (HangulJamo.isChosungQuery(query)) {
+            ordinals = current.getJamoIndex().suggestChosung(query, limit);
+        } else {
+            ordinals = current.getSuggestionIndex().suggest(query, limit);
+            if (ordinals.length == 0) {
+                ordinals = current.getJamoIndex().suggestFuzzy(query, limit);
+            }
+        }
+        List<PetFacility> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(current.get(ordinal));
+        }
+        return result;
+    }
+
+    private Page<PetFacility> toPage(FacilitySnapshot current, int[] ordinals, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ordinals.length);
+        int to = Math.min(from + pageable.getPageSize(), ordinals.length);
+        List<PetFacility> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(current.get(ordinals[i]));
+        }
+        return new PageImpl<>(content, pageable, ordinals.length);
+    }
+
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    // 줌 레벨별로 미리 집계된 클러스터 중 화면 범위 안에 있는 것 조회
+    public List<FacilityClusterDto> findClusters(int zoom,
+                                                 double southWestLat, double northEastLat,
+                                                 double southWestLng, double northEastLng) {
+        FacilitySnapshot current = snapshot;
+        List<FacilityClusterDto> result = new ArrayList<>();
+
+        current.getClusterIndex().clusters(zoom, southWestLat, northEastLat, southWestLng, northEastLng,
+                (latitude, longitude, count, category, facilityId) -> result.add(FacilityClusterDto.builder()
+                        .latitude(latitude)
+                        .longitude(longitude)
+                        .count(count)
+                        .category2(category < 0 ? null : current.getCategories().get(category))
+                        .facilityId(facilityId < 0 ? null : facilityId)
+                        .build()));
+        return result;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.backend.review.controller;
 
+import com.example.backend.review.dto.ReviewCursor;
+import com.example.backend.review.dto.ReviewCursorPageDto;
 import com.example.backend.review.dto.ReviewFormDto;
 import com.example.backend.review.dto.ReviewListDto;
 import com.example.backend.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +62,17 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // 특정 시설 리뷰 조회 - 최신순 무한 스크롤용 (키셋 페이지네이션)
+    // after에 이전 응답의 nextCursor를 넘기면 그 다음부터 size개를 반환한다.
+    @GetMapping("/facility/{facilityId}/cursor")
+    public ReviewCursorPageDto getReviewsByFacilityIdAfter(
+            @PathVariable Long facilityId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return reviewService.findByFacilityIdAfter(facilityId, parseCursor(after), Math.max(1, Math.min(size, 50)));
+    }
+
     // 리뷰 수정
     @PostMapping("/update/{id}")
     @PreAuthorize("isAuthenticated()")
@@ -116,4 +132,25 @@ public class ReviewController {
         List<ReviewListDto> myReviews = reviewService.findReviewsByMemberId(memberId);
         return ResponseEntity.ok(myReviews);
     }
+
+    // 내가 쓴 리뷰 조회 - 최신순 무한 스크롤용 (키셋 페이지네이션)
+    @GetMapping("/myReview/{memberId}/cursor")
+    public ReviewCursorPageDto getMyReviewsAfter(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return reviewService.findByMemberIdAfter(memberId, parseCursor(after), Math.max(1, Math.min(size, 50)));
+    }
+
+    private static ReviewCursor parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return ReviewCursor.decode(after);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.backend.review.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// 최신순 키셋 페이지네이션 커서: 마지막으로 받은 리뷰의 (작성 시각, id)
+// inserted_at은 초 단위라 같은 시각의 리뷰가 많아서 id로 순서를 확정한다.
+@Getter
+@RequiredArgsConstructor
+public class ReviewCursor {
+
+    private static final char SEPARATOR = '\t';
+
+    private final Instant insertedAt;
+    private final int id;
+
+    public String encode() {
+        String payload = id + String.valueOf(SEPARATOR) + insertedAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰이면 IllegalArgumentException 또는 DateTimeParseException
+    public static ReviewCursor decode(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return new ReviewCursor(Instant.parse(payload.substring(separator + 1)),
+                Integer.parseInt(payload.substring(0, separator)));
+    }
+}
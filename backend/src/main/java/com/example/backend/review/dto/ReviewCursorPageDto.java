@@ -0,0 +1,15 @@
+package com.example.backend.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReviewCursorPageDto {
+    private List<ReviewListDto> content;
+    private String nextCursor; // 다음 페이지 요청 시 after로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,16 @@
+package com.example.backend.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReviewRatingSummaryDto {
+    private Long reviewCount;
+    private Double averageRating; // 소수 첫째자리 반올림 (리뷰가 없으면 0.0)
+    private Map<Integer, Long> ratingCounts; // 평점(1~5)별 리뷰 수
+}
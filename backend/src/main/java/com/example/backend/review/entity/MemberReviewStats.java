@@ -0,0 +1,30 @@
+package com.example.backend.review.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 회원별 리뷰 집계 (member_review_stats)
+// 값은 MemberReviewStatsRepository의 네이티브 쿼리로만 증감하므로 엔티티는 조회 전용
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "member_review_stats")
+public class MemberReviewStats {
+
+    @Id
+    private Long memberId;
+
+    private Integer reviewCount;
+    private Integer ratingSum;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    // 소수 첫째자리 반올림 평균 (리뷰가 없으면 0.0)
+    public double getAverageRating() {
+        return reviewCount == null || reviewCount <= 0 ? 0.0 : Math.round(ratingSum * 10.0 / reviewCount) / 10.0;
+    }
+}
@@ -58,4 +58,10 @@ public class Review {
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ReviewLike> likes = new HashSet<>();
+
+    // 좋아요 수 (review_like 기준 비정규화, LikeCounterService가 모아서 반영)
+    // 리뷰 수정 시 엔티티 값으로 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Builder.Default
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer likeCount = 0;
 }
@@ -0,0 +1,48 @@
+package com.example.backend.review.repository;
+
+import com.example.backend.review.entity.MemberReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberReviewStatsRepository extends JpaRepository<MemberReviewStats, Long> {
+
+    // 리뷰 1건 반영 (delta: +1 작성, -1 삭제) - 행이 없으면 만들고 있으면 원자적으로 증감
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_review_stats (member_id, review_count, rating_sum)
+            VALUES (:memberId, :delta, :delta * :rating)
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + VALUES(review_count),
+                rating_sum = rating_sum + VALUES(rating_sum)
+            """, nativeQuery = true)
+    void addReview(@Param("memberId") Long memberId, @Param("rating") int rating, @Param("delta") int delta);
+
+    // 보정: review 기준 값과 다른 행만 고친다 (같은 값이면 MariaDB가 갱신하지 않음)
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_review_stats (member_id, review_count, rating_sum)
+            SELECT m.id, COUNT(*), SUM(r.rating)
+            FROM review r
+                     JOIN member m ON r.member_email = m.email
+            GROUP BY m.id
+            ON DUPLICATE KEY UPDATE
+                review_count = VALUES(review_count),
+                rating_sum = VALUES(rating_sum)
+            """, nativeQuery = true)
+    int reconcileFromReviews();
+
+    // 보정: 리뷰가 모두 지워졌는데 남아 있는 집계
+    @Modifying
+    @Query(value = """
+            UPDATE member_review_stats s
+            SET s.review_count = 0, s.rating_sum = 0
+            WHERE s.review_count <> 0
+              AND NOT EXISTS (SELECT 1
+                              FROM review r
+                                       JOIN member m ON r.member_email = m.email
+                              WHERE m.id = s.member_id)
+            """, nativeQuery = true)
+    int resetWithoutReviews();
+}
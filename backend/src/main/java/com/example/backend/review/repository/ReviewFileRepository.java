@@ -3,6 +3,15 @@ package com.example.backend.review.repository;
 import com.example.backend.review.entity.ReviewFile;
 import com.example.backend.review.entity.ReviewFileId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReviewFileRepository extends JpaRepository<ReviewFile, ReviewFileId> {
-}
\ No newline at end of file
+
+    // 여러 리뷰의 첨부 파일명 [reviewId, name]
+    @Query("SELECT f.id.reviewId, f.id.name FROM ReviewFile f WHERE f.id.reviewId IN :reviewIds ORDER BY f.id.reviewId, f.id.name")
+    List<Object[]> findNamesByReviewIds(@Param("reviewIds") Collection<Integer> reviewIds);
+}
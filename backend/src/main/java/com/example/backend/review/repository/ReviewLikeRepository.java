@@ -6,8 +6,11 @@ import com.example.backend.review.entity.ReviewLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLikeId> {
@@ -15,6 +18,20 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLi
 
   Long countByReviewId(Integer reviewId);
 
+  // 좋아요 추가 - 이미 있으면 무시하고 0을 돌려준다 (실제로 추가했을 때만 좋아요 수를 올리도록)
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO review_like (review_id, member_id) VALUES (:reviewId, :memberId)", nativeQuery = true)
+  int insertIgnore(@Param("reviewId") Integer reviewId, @Param("memberId") Long memberId);
+
+  // 좋아요 취소 - 지운 행 수를 돌려줘서 실제로 지웠을 때만 좋아요 수를 차감한다
+  @Modifying
+  @Query("delete from ReviewLike rl where rl.review.id = :reviewId and rl.member.id = :memberId")
+  int deleteByReviewIdAndMemberId(@Param("reviewId") Integer reviewId, @Param("memberId") Long memberId);
+
+  // 주어진 리뷰 중 이 회원이 좋아요한 리뷰 id
+  @Query("select rl.review.id from ReviewLike rl where rl.member.email = :memberEmail and rl.review.id in :reviewIds")
+  List<Integer> findLikedReviewIds(@Param("memberEmail") String memberEmail, @Param("reviewIds") Collection<Integer> reviewIds);
+
   @Transactional
   @Modifying
   @Query("delete from ReviewLike bl where bl.review.id = :reviewId")
@@ -3,10 +3,14 @@ package com.example.backend.review.repository;
 import com.example.backend.review.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,32 +19,97 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     // 기존 메서드 유지
     List<Review> findTop5ByOrderByInsertedAtDesc();
 
+    // 목록 조회는 작성자/시설을 같은 쿼리로 함께 읽는다 (DTO 변환 시 리뷰마다 추가 조회하지 않도록)
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
     List<Review> findTop3ByOrderByInsertedAtDesc();
 
     List<Review> findAllByMemberEmail_Email(String email);
 
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
     Page<Review> findAllByOrderByInsertedAtDesc(Pageable pageable);
 
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
     List<Review> findAllByMemberEmail_IdOrderByInsertedAtDesc(Long memberId);
 
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
     List<Review> findAllByPetFacility_IdOrderByInsertedAtDesc(Long facilityId);
 
-    // 좋아요 수 순 정렬 — 페이징 처리 포함 (Pageable 사용 권장)
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
+    List<Review> findAllByPetFacility_IdOrderByInsertedAtDesc(Long facilityId, Pageable pageable);
+
+    // 최신순 키셋 페이지네이션 (작성 시각, id 역순)
+    // 시설: (facility_id, inserted_at) 인덱스, 회원: (member_email, inserted_at) 인덱스를 따라 앞에서부터 size개만 읽는다
+    // (InnoDB 보조 인덱스에는 PK가 붙어 있어 같은 시각 안의 id 순서도 인덱스 순서 그대로)
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
+    List<Review> findAllByPetFacility_IdOrderByInsertedAtDescIdDesc(Long facilityId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
+    @Query("""
+            SELECT r FROM Review r
+            WHERE r.petFacility.id = :facilityId
+              AND r.insertedAt <= :insertedAt
+              AND (r.insertedAt < :insertedAt OR r.id < :id)
+            ORDER BY r.insertedAt DESC, r.id DESC
+            """)
+    List<Review> findByFacilityIdBefore(@Param("facilityId") Long facilityId,
+                                        @Param("insertedAt") Instant insertedAt,
+                                        @Param("id") Integer id,
+                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
+    List<Review> findAllByMemberEmail_IdOrderByInsertedAtDescIdDesc(Long memberId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
     @Query("""
-                SELECT r FROM Review r
-                LEFT JOIN r.likes rl
-                WHERE r.petFacility.id = :facilityId
-                GROUP BY r.id, r.insertedAt, r.review, r.rating, r.memberEmail, r.petFacility
-                ORDER BY COUNT(rl) DESC, r.insertedAt DESC
+            SELECT r FROM Review r
+            WHERE r.memberEmail.id = :memberId
+              AND r.insertedAt <= :insertedAt
+              AND (r.insertedAt < :insertedAt OR r.id < :id)
+            ORDER BY r.insertedAt DESC, r.id DESC
             """)
-    Page<Review> findByPetFacilityIdOrderByLikesDesc(@Param("facilityId") Long facilityId, Pageable pageable);
+    List<Review> findByMemberIdBefore(@Param("memberId") Long memberId,
+                                      @Param("insertedAt") Instant insertedAt,
+                                      @Param("id") Integer id,
+                                      Pageable pageable);
+
+    // 좋아요 수 순 정렬 — 페이징 처리 포함
+    // like_count 컬럼 + (facility_id, like_count, inserted_at) 인덱스로 집계 없이 인덱스 순서대로 읽는다
+    @EntityGraph(attributePaths = {"memberEmail", "petFacility"})
+    List<Review> findAllByPetFacility_IdOrderByLikeCountDescInsertedAtDesc(Long facilityId, Pageable pageable);
+
+    @Query("SELECT r.likeCount FROM Review r WHERE r.id = :reviewId")
+    Optional<Integer> findLikeCountById(@Param("reviewId") Integer reviewId);
+
+    // 모아 둔 좋아요 수 증감을 한 번에 반영 (LikeCounterService, 증감값이 같은 리뷰끼리 묶어서)
+    @Modifying
+    @Query("UPDATE Review r SET r.likeCount = r.likeCount + :delta WHERE r.id IN :reviewIds")
+    int addLikeCounts(@Param("reviewIds") Collection<Integer> reviewIds, @Param("delta") int delta);
+
+    // 회원 탈퇴 전: 그 회원이 누른 좋아요만큼 각 리뷰의 좋아요 수 차감 (review_like는 FK cascade로 지워져 카운터가 어긋나지 않도록)
+    @Modifying
+    @Query(value = """
+            UPDATE review r
+                JOIN review_like rl ON rl.review_id = r.id
+                JOIN member m ON rl.member_id = m.id
+            SET r.like_count = r.like_count - 1
+            WHERE m.email = :email
+            """, nativeQuery = true)
+    int subtractLikesByMemberEmail(@Param("email") String email);
 
-    // 특정 회원의 리뷰수 구하기
-    Long countByMemberEmail_Id(Long memberId);
+    // 보정용: review_like 행 수와 다른 좋아요 수 [reviewId, 행 수 - like_count] (반영 전 비정상 종료 등으로 어긋난 값)
+    // 잠그지 않는 일반 읽기라 LikeCounterService가 잡아 둔 스냅샷 기준으로 읽힌다
+    @Query(value = """
+            SELECT r.id, COUNT(rl.review_id) - r.like_count
+            FROM review r
+                     LEFT JOIN review_like rl ON rl.review_id = r.id
+            GROUP BY r.id, r.like_count
+            HAVING COUNT(rl.review_id) <> r.like_count
+            """, nativeQuery = true)
+    List<Object[]> findLikeCountDrift();
 
-    // 특정 회원의 리뷰 평점 평균을 계산하는 JPQL 쿼리
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.memberEmail.id = :memberId")
-    Optional<Double> findAverageRatingByMemberId(@Param("memberId") Long memberId);
+    // 여러 리뷰의 태그 [reviewId, tagId, tagName]
+    @Query("SELECT r.id, t.id, t.name FROM Review r JOIN r.tags t WHERE r.id IN :reviewIds")
+    List<Object[]> findTagsByReviewIds(@Param("reviewIds") Collection<Integer> reviewIds);
 
 
     @Query(value = "SELECT r.id, pf.name, r.rating, r.review, " +
@@ -0,0 +1,49 @@
+package com.example.backend.review.service;
+
+import com.example.backend.review.entity.MemberReviewStats;
+import com.example.backend.review.repository.MemberReviewStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 회원별 리뷰 수/평점 합계 (member_review_stats)
+// 리뷰 목록마다 작성자의 리뷰 수와 평균 평점을 review 전체에서 집계하던 것을 PK 조회로 바꾸기 위한 집계 테이블.
+// ReviewService가 리뷰 트랜잭션 안에서 증감하고, 어긋난 값은 매일 새벽 review 기준으로 보정한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MemberReviewStatsService {
+
+    private final MemberReviewStatsRepository memberReviewStatsRepository;
+
+    public void reviewAdded(Long memberId, int rating) {
+        memberReviewStatsRepository.addReview(memberId, rating, 1);
+    }
+
+    public void reviewRemoved(Long memberId, int rating) {
+        memberReviewStatsRepository.addReview(memberId, rating, -1);
+    }
+
+    // 여러 회원 집계를 한 번에 (리뷰가 없는 회원은 결과에 없음)
+    @Transactional(readOnly = true)
+    public Map<Long, MemberReviewStats> findByMemberIds(Collection<Long> memberIds) {
+        return memberReviewStatsRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(MemberReviewStats::getMemberId, Function.identity()));
+    }
+
+    @Scheduled(cron = "${review.member-stats.reconcile-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int upserted = memberReviewStatsRepository.reconcileFromReviews();
+        int reset = memberReviewStatsRepository.resetWithoutReviews();
+        log.info("회원 리뷰 집계 보정 - 반영 {}행, 초기화 {}건, {}ms", upserted, reset, System.currentTimeMillis() - start);
+    }
+}
@@ -2,16 +2,17 @@ package com.example.backend.review.service;
 
 import com.example.backend.review.dto.ReviewLikeDto;
 import com.example.backend.review.dto.ReviewLikeForm;
-import com.example.backend.review.entity.ReviewLike;
-import com.example.backend.review.entity.ReviewLikeId;
 import com.example.backend.review.repository.ReviewLikeRepository;
 import com.example.backend.review.repository.ReviewRepository;
 import com.example.backend.member.repository.MemberRepository;
+import com.example.backend.like.service.LikeCounterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -20,6 +21,7 @@ public class ReviewLikeService {
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
+    private final LikeCounterService likeCounterService;
 
     public ReviewLikeDto update(ReviewLikeForm likeForm, Authentication authentication) {
         if (authentication == null) {
@@ -29,36 +31,28 @@ public class ReviewLikeService {
         String email = authentication.getName();
         Integer reviewId = likeForm.getReviewId();
 
-        var reviewLikeOpt = reviewLikeRepository.findByReviewIdAndMemberEmail(reviewId, email);
+        var member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("회원 없음"));
+        int stored = reviewRepository.findLikeCountById(reviewId)
+                .orElseThrow(() -> new RuntimeException("게시물 없음"));
 
-        if (reviewLikeOpt.isPresent()) {
-            reviewLikeRepository.delete(reviewLikeOpt.get());
+        // 좋아요 행은 바로 추가/삭제하고, 좋아요 수는 실제로 바뀐 경우에만 LikeCounterService에 맡긴다
+        // (같은 요청이 겹쳐도 삭제/추가된 행 수 기준이라 한 번만 반영)
+        int delta;
+        if (reviewLikeRepository.deleteByReviewIdAndMemberId(reviewId, member.getId()) > 0) {
+            delta = -1;
         } else {
-            var review = reviewRepository.findById(reviewId)
-                    .orElseThrow(() -> new RuntimeException("게시물 없음"));
-            var member = memberRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("회원 없음"));
-
-            ReviewLikeId reviewLikeId = new ReviewLikeId();
-            reviewLikeId.setReviewId(reviewId);
-            reviewLikeId.setMemberId(member.getId());
-
-            ReviewLike newLike = new ReviewLike();
-            newLike.setId(reviewLikeId);
-            newLike.setReview(review);
-            newLike.setMember(member);
-
-            reviewLikeRepository.save(newLike);
+            delta = reviewLikeRepository.insertIgnore(reviewId, member.getId()) > 0 ? 1 : 0;
         }
+        likeCounterService.reviewLikeChanged(reviewId, delta);
 
-        // 좋아요 최신 상태 조회
-        int count = reviewLikeRepository.countByReviewId(reviewId).intValue();
-        boolean liked = reviewLikeRepository.findByReviewIdAndMemberEmail(reviewId, email).isPresent();
-        Long memberId = memberRepository.findByEmail(email).map(m -> m.getId()).orElse(null);
+        // 응답 시점엔 이번 증감이 아직 커밋 전이라 직접 더한다
+        int count = (int) likeCounterService.getReviewLikeCount(reviewId, stored) + delta;
+        boolean liked = delta >= 0;
 
         return ReviewLikeDto.builder()
                 .reviewId(reviewId)
-                .memberId(memberId)
+                .memberId(member.getId())
                 .liked(liked)
                 .likeCount(count)
                 .build();
@@ -66,7 +60,8 @@ public class ReviewLikeService {
 
     @Transactional(readOnly = true)
     public ReviewLikeDto get(Integer reviewId, Authentication authentication) {
-        int count = reviewLikeRepository.countByReviewId(reviewId).intValue();
+        int count = (int) likeCounterService.getReviewLikeCount(reviewId,
+                reviewRepository.findLikeCountById(reviewId).orElse(0));
         boolean liked = false;
         Long memberId = null;
 
@@ -85,4 +80,13 @@ public class ReviewLikeService {
                 .likeCount(count)
                 .build();
     }
+
+    // 리뷰 목록 중 로그인한 회원이 좋아요한 리뷰 id (리뷰마다 get()을 부르지 않도록 한 번에 조회)
+    @Transactional(readOnly = true)
+    public List<Integer> findLikedReviewIds(List<Integer> reviewIds, Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewLikeRepository.findLikedReviewIds(authentication.getName(), reviewIds);
+    }
 }
@@ -1,13 +1,21 @@
 package com.example.backend.review.service;
 
+import com.example.backend.common.SingleFlight;
+import com.example.backend.like.service.LikeCounterService;
 import com.example.backend.member.entity.Member;
-import com.example.backend.member.entity.MemberFile;
 import com.example.backend.petFacility.dto.PetFacilitySimpleDto;
+import com.example.backend.petFacility.entity.FacilityStats;
 import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilityRating;
 import com.example.backend.petFacility.repository.PetFacilityRepository;
+import com.example.backend.petFacility.service.FacilityStatsService;
+import com.example.backend.review.dto.ReviewCursor;
+import com.example.backend.review.dto.ReviewCursorPageDto;
 import com.example.backend.review.dto.ReviewFormDto;
 import com.example.backend.review.dto.ReviewListDto;
+import com.example.backend.review.dto.ReviewRatingSummaryDto;
 import com.example.backend.review.dto.TagDto;
+import com.example.backend.review.entity.MemberReviewStats;
 import com.example.backend.review.entity.Review;
 import com.example.backend.review.entity.ReviewFile;
 import com.example.backend.review.entity.ReviewFileId;
@@ -16,17 +24,21 @@ import com.example.backend.review.repository.ReviewFileRepository;
 import com.example.backend.review.repository.ReviewReportRepository;
 import com.example.backend.review.repository.ReviewRepository;
 import com.example.backend.review.repository.TagRepository;
+import com.example.backend.member.repository.MemberFileRepository;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -36,6 +48,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,10 +59,20 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final ReviewFileRepository reviewFileRepository;
+    private final MemberFileRepository memberFileRepository;
+    private final LikeCounterService likeCounterService;
     private final TagRepository tagRepository;
     private final PetFacilityRepository petFacilityRepository;
     private final S3Client s3Client;
     private final ReviewReportRepository reviewReportRepository;
+    private final FacilityStatsService facilityStatsService;
+    private final MemberReviewStatsService memberReviewStatsService;
+
+    private final PlatformTransactionManager transactionManager;
+
+    // 시설 상세/메인 화면의 리뷰 목록은 같은 조건으로 동시에 많이 불리므로 진행 중인 조회를 함께 쓴다
+    // 리뷰 작성/수정/삭제가 커밋되면 invalidate() - 그 뒤에 들어온 요청은 커밋 전에 시작된 조회에 합류하지 않고 새로 조회한다
+    private final SingleFlight<String, List<ReviewListDto>> reviewListQueries = new SingleFlight<>();
 
     @Value("${image.prefix}")
     private String imagePrefix;
@@ -196,6 +219,9 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
         saveFiles(review, dto.getFiles());
+        facilityStatsService.reviewAdded(petFacility.getId(), savedReview.getRating());
+        memberReviewStatsService.reviewAdded(member.getId(), savedReview.getRating());
+        invalidateListsAfterCommit();
         // 포커스 옮기기 위한 새 리뷰 id 리턴
         return savedReview.getId();
     }
@@ -208,6 +234,15 @@ public class ReviewService {
         if (!review.getMemberEmail().getEmail().equals(dto.getMemberEmail())) {
             throw new SecurityException("자신이 작성한 리뷰만 수정할 수 있습니다.");
         }
+        invalidateListsAfterCommit();
+
+        // 평점이 바뀌면 시설/작성자 집계에서 이전 평점을 빼고 새 평점을 더한다
+        if (!review.getRating().equals(dto.getRating())) {
+            facilityStatsService.reviewRemoved(review.getPetFacility().getId(), review.getRating());
+            facilityStatsService.reviewAdded(review.getPetFacility().getId(), dto.getRating());
+            memberReviewStatsService.reviewRemoved(review.getMemberEmail().getId(), review.getRating());
+            memberReviewStatsService.reviewAdded(review.getMemberEmail().getId(), dto.getRating());
+        }
 
         review.setReview(dto.getReview());
         review.setRating(dto.getRating());
@@ -253,17 +288,78 @@ public class ReviewService {
         }
 
         reviewRepository.deleteById(id);
+        facilityStatsService.reviewRemoved(review.getPetFacility().getId(), review.getRating());
+        memberReviewStatsService.reviewRemoved(review.getMemberEmail().getId(), review.getRating());
+        invalidateListsAfterCommit();
     }
 
     // 특정 시설 리뷰 목록 조회 (최신순)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ReviewListDto> findAllByFacilityId(Long facilityId) {
-        return reviewRepository.findAllByPetFacility_IdOrderByInsertedAtDesc(facilityId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return coalesce("facility:" + facilityId, () ->
+                convertToDtos(reviewRepository.findAllByPetFacility_IdOrderByInsertedAtDesc(facilityId)));
+    }
+
+    // 특정 시설 리뷰 목록 조회 (최신순, 페이징)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReviewListDto> findByFacilityId(Long facilityId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return coalesce("facilityPage:" + facilityId + ":" + page + ":" + size, () ->
+                convertToDtos(reviewRepository.findAllByPetFacility_IdOrderByInsertedAtDesc(facilityId, pageable)));
+    }
+
+    // 특정 시설 리뷰 목록 (최신순 키셋 페이지네이션) - 시설의 리뷰 수와 관계없이 요청당 size개만 읽는다
+    public ReviewCursorPageDto findByFacilityIdAfter(Long facilityId, ReviewCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지가 있는지 보려고 하나 더
+        List<Review> reviews = after == null
+                ? reviewRepository.findAllByPetFacility_IdOrderByInsertedAtDescIdDesc(facilityId, limit)
+                : reviewRepository.findByFacilityIdBefore(facilityId, after.getInsertedAt(), after.getId(), limit);
+        return toCursorPage(reviews, size);
+    }
+
+    // 회원이 쓴 리뷰 목록 (최신순 키셋 페이지네이션)
+    public ReviewCursorPageDto findByMemberIdAfter(Long memberId, ReviewCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Review> reviews = after == null
+                ? reviewRepository.findAllByMemberEmail_IdOrderByInsertedAtDescIdDesc(memberId, limit)
+                : reviewRepository.findByMemberIdBefore(memberId, after.getInsertedAt(), after.getId(), limit);
+        return toCursorPage(reviews, size);
+    }
+
+    private ReviewCursorPageDto toCursorPage(List<Review> reviews, int size) {
+        String nextCursor = null;
+        if (reviews.size() > size) {
+            reviews = reviews.subList(0, size);
+            Review last = reviews.get(size - 1);
+            nextCursor = new ReviewCursor(last.getInsertedAt(), last.getId()).encode();
+        }
+        return ReviewCursorPageDto.builder()
+                .content(convertToDtos(reviews))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 시설 평점 요약 (리뷰 수, 평균, 평점별 개수) - review를 집계하지 않고 facility_stats 한 행만 읽는다
+    @Transactional(readOnly = true)
+    public ReviewRatingSummaryDto getRatingSummary(Long facilityId) {
+        FacilityStats stats = facilityStatsService.findStats(facilityId).orElse(null);
+        Map<Integer, Long> ratingCounts = new TreeMap<>();
+        ratingCounts.put(1, stats == null ? 0L : stats.getRating1());
+        ratingCounts.put(2, stats == null ? 0L : stats.getRating2());
+        ratingCounts.put(3, stats == null ? 0L : stats.getRating3());
+        ratingCounts.put(4, stats == null ? 0L : stats.getRating4());
+        ratingCounts.put(5, stats == null ? 0L : stats.getRating5());
+        FacilityRating rating = stats == null ? FacilityRating.NONE : FacilityRating.of(stats);
+
+        return ReviewRatingSummaryDto.builder()
+                .reviewCount((long) rating.reviewCount())
+                .averageRating(rating.average())
+                .ratingCounts(ratingCounts)
+                .build();
     }
 
     // 최신 리뷰 N개 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ReviewListDto> getLatestReviews(Integer limit) {
         if (limit == null || limit <= 0) {
             limit = 5;
@@ -272,86 +368,117 @@ public class ReviewService {
             limit = 100;
         }
 
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "insertedAt"));
-        Page<Review> reviewPage = reviewRepository.findAll(pageable);
-
-        return reviewPage.getContent().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        Pageable pageable = PageRequest.of(0, limit);
+        return coalesce("latest:" + limit, () ->
+                convertToDtos(reviewRepository.findAllByOrderByInsertedAtDesc(pageable).getContent()));
     }
 
     // 최신 리뷰 3개 조회
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ReviewListDto> getLatest3Reviews() {
-        return reviewRepository.findTop3ByOrderByInsertedAtDesc()
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return coalesce("latest3", () ->
+                convertToDtos(reviewRepository.findTop3ByOrderByInsertedAtDesc()));
     }
 
     // 내가 쓴 리뷰 조회
     public List<ReviewListDto> findReviewsByMemberId(Long memberId) {
-        return reviewRepository.findAllByMemberEmail_IdOrderByInsertedAtDesc(memberId)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return convertToDtos(reviewRepository.findAllByMemberEmail_IdOrderByInsertedAtDesc(memberId));
     }
 
     // ★ 좋아요 수 기준 특정 시설 리뷰 목록 조회 (페이징)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ReviewListDto> findByFacilityIdOrderByLikesDesc(Long facilityId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Review> reviewPage = reviewRepository.findByPetFacilityIdOrderByLikesDesc(facilityId, pageable);
+        return coalesce("likes:" + facilityId + ":" + page + ":" + size, () ->
+                convertToDtos(reviewRepository.findAllByPetFacility_IdOrderByLikeCountDescInsertedAtDesc(facilityId, pageable)));
+    }
 
-        return reviewPage.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    // 합쳐지는 목록 조회: 기다리는 요청은 트랜잭션(커넥션) 없이 기다리고, 실제로 조회하는 요청만 읽기 전용 트랜잭션을 연다
+    private List<ReviewListDto> coalesce(String key, Supplier<List<ReviewListDto>> loader) {
+        return reviewListQueries.run(key, () -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> loader.get());
+        });
     }
 
-    // DTO 변환 헬퍼
-    private ReviewListDto convertToDto(Review review) {
-        List<String> fileUrls = review.getFiles().stream()
-                .map(f -> imagePrefix + "prj3/review/" + review.getId() + "/" + f.getId().getName())
-                .collect(Collectors.toList());
+    // 리뷰 쓰기 트랜잭션 안에서 호출
+    private void invalidateListsAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reviewListQueries.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reviewListQueries.invalidate();
+            }
+        });
+    }
 
-        String profileImageUrl = null;
-        if (review.getMemberEmail() != null && review.getMemberEmail().getFiles() != null && !review.getMemberEmail().getFiles().isEmpty()) {
-            MemberFile profileFile = review.getMemberEmail().getFiles().get(0);
-            profileImageUrl = imagePrefix + "prj3/member/" + review.getMemberEmail().getId() + "/" + profileFile.getId().getName();
+    // 목록 DTO 일괄 변환
+    // 리뷰마다 파일/태그/작성자 통계를 따로 읽지 않도록 페이지의 리뷰 id, 회원 id를 모아 항목별로 한 번씩만 조회한다.
+    // (작성자와 시설은 목록 쿼리에서 함께 읽어 옴) → 리뷰 수와 관계없이 쿼리 수가 일정
+    private List<ReviewListDto> convertToDtos(List<Review> reviews) {
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> reviewIds = reviews.stream().map(Review::getId).toList();
+        List<Long> memberIds = reviews.stream().map(review -> review.getMemberEmail().getId()).distinct().toList();
+
+        Map<Integer, List<String>> fileUrls = new HashMap<>();
+        for (Object[] row : reviewFileRepository.findNamesByReviewIds(reviewIds)) {
+            Integer reviewId = (Integer) row[0];
+            fileUrls.computeIfAbsent(reviewId, id -> new ArrayList<>())
+                    .add(imagePrefix + "prj3/review/" + reviewId + "/" + row[1]);
         }
 
-        List<TagDto> tagDtos = review.getTags().stream()
-                .map(tag -> TagDto.builder().id(tag.getId()).name(tag.getName()).build())
-                .collect(Collectors.toList());
+        Map<Integer, List<TagDto>> tags = new HashMap<>();
+        for (Object[] row : reviewRepository.findTagsByReviewIds(reviewIds)) {
+            tags.computeIfAbsent((Integer) row[0], id -> new ArrayList<>())
+                    .add(TagDto.builder().id((Integer) row[1]).name((String) row[2]).build());
+        }
 
-        PetFacility facility = review.getPetFacility();
-        PetFacilitySimpleDto facilityDto = PetFacilitySimpleDto.builder()
-                .id(facility.getId())
-                .name(facility.getName())
-                .sidoName(facility.getSidoName())
-                .sigunguName(facility.getSigunguName())
-                .build();
+        // 회원별 첫 번째(파일명순) 프로필 이미지
+        Map<Long, String> profileImageUrls = new HashMap<>();
+        for (Object[] row : memberFileRepository.findNamesByMemberIdIn(memberIds)) {
+            Long memberId = (Long) row[0];
+            profileImageUrls.putIfAbsent(memberId, imagePrefix + "prj3/member/" + memberId + "/" + row[1]);
+        }
 
-        Long memberId = review.getMemberEmail().getId();
-        Long countMemberReview = reviewRepository.countByMemberEmail_Id(memberId);
-        Double memberAverageRating = reviewRepository.findAverageRatingByMemberId(memberId).orElse(0.0);
-        // 소수 첫째자리 까지 반올림
-        double roundedRating = Math.round(memberAverageRating * 10.0) / 10.0;
-
-        return ReviewListDto.builder()
-                .id(review.getId())
-                .petFacility(facilityDto)
-                .memberEmail(review.getMemberEmail().getEmail())
-                .memberEmailNickName(review.getMemberEmail().getNickName())
-                .review(review.getReview())
-                .rating(review.getRating())
-                .insertedAt(review.getInsertedAt())
-                .profileImageUrl(profileImageUrl)
-                .files(fileUrls)
-                .memberId(review.getMemberEmail().getId())
-                .tags(tagDtos)
-                .likesCount((long) (review.getLikes() != null ? review.getLikes().size() : 0))
-                .countMemberReview(countMemberReview)
-                .memberAverageRating(roundedRating)
-                .build();
+        // 작성자 리뷰 수/평균은 집계 테이블 PK 조회
+        Map<Long, MemberReviewStats> memberStats = memberReviewStatsService.findByMemberIds(memberIds);
+
+        List<ReviewListDto> result = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            Member member = review.getMemberEmail();
+            MemberReviewStats stats = memberStats.get(member.getId());
+            PetFacility facility = review.getPetFacility();
+            PetFacilitySimpleDto facilityDto = PetFacilitySimpleDto.builder()
+                    .id(facility.getId())
+                    .name(facility.getName())
+                    .sidoName(facility.getSidoName())
+                    .sigunguName(facility.getSigunguName())
+                    .build();
+
+            result.add(ReviewListDto.builder()
+                    .id(review.getId())
+                    .petFacility(facilityDto)
+                    .memberEmail(member.getEmail())
+                    .memberEmailNickName(member.getNickName())
+                    .review(review.getReview())
+                    .rating(review.getRating())
+                    .insertedAt(review.getInsertedAt())
+                    .profileImageUrl(profileImageUrls.get(member.getId()))
+                    .files(fileUrls.getOrDefault(review.getId(), new ArrayList<>()))
+                    .memberId(member.getId())
+                    .tags(tags.getOrDefault(review.getId(), new ArrayList<>()))
+                    .likesCount(likeCounterService.getReviewLikeCount(review.getId(), review.getLikeCount()))
+                    .countMemberReview(stats == null ? 0L : stats.getReviewCount())
+                    .memberAverageRating(stats == null ? 0.0 : stats.getAverageRating())
+                    .build());
+        }
+        return result;
     }
 
     // 태그 저장 헬퍼
@@ -0,0 +1,103 @@
+package com.example.backend.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    void drainReturnsAccumulatedValuesAndResets() {
+        CounterBuffer<Integer> buffer = new CounterBuffer<>();
+        buffer.add(1, 1);
+        buffer.add(1, 1);
+        buffer.add(2, -1);
+        buffer.add(3, 0);
+
+        assertThat(buffer.get(1)).isEqualTo(2);
+        assertThat(buffer.snapshot()).containsOnly(Map.entry(1, 2L), Map.entry(2, -1L));
+        assertThat(buffer.drain()).containsOnly(Map.entry(1, 2L), Map.entry(2, -1L));
+        assertThat(buffer.get(1)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void idleKeysAreRemovedOnNextDrain() {
+        CounterBuffer<Integer> buffer = new CounterBuffer<>();
+        buffer.add(1, 1);
+        buffer.add(2, 1);
+        buffer.add(2, -1); // 합이 0
+
+        buffer.drain();
+        assertThat(buffer.size()).isEqualTo(1); // 0이 된 키는 이번에 치움
+        buffer.drain();
+        assertThat(buffer.size()).isZero();     // 이번 주기 변화가 없던 키도 치움
+    }
+
+    @Test
+    void concurrentAddAndDrainLoseNothing() throws Exception {
+        CounterBuffer<Integer> buffer = new CounterBuffer<>();
+        int threads = 8;
+        int addsPerThread = 200_000;
+        int keys = 4; // 적은 키에 몰아서 drain()이 누적기를 치우는 경합을 자주 일으킨다
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+        Map<Integer, Long> drained = new HashMap<>();
+        long[] expected = new long[keys];
+        try {
+            // drain 스레드: 더하는 동안 계속 꺼냄
+            Future<?> drainer = pool.submit(() -> {
+                start.await();
+                while (adding.get()) {
+                    buffer.drain().forEach((key, value) -> drained.merge(key, value, Long::sum));
+                }
+                return null;
+            });
+
+            // 키마다 +1/-1을 섞어 더해 중간에 합이 0이 되는 순간(키를 치우는 경로)도 지나가게 한다
+            List<Future<long[]>> adders = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                adders.add(pool.submit(() -> {
+                    start.await();
+                    long[] added = new long[keys];
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < addsPerThread; i++) {
+                        int key = random.nextInt(keys);
+                        int delta = random.nextInt(3) == 0 ? -1 : 1;
+                        buffer.add(key, delta);
+                        added[key] += delta;
+                    }
+                    return added;
+                }));
+            }
+
+            start.countDown();
+            for (Future<long[]> adder : adders) {
+                long[] added = adder.get(30, TimeUnit.SECONDS);
+                for (int key = 0; key < keys; key++) {
+                    expected[key] += added[key];
+                }
+            }
+            adding.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        buffer.drain().forEach((key, value) -> drained.merge(key, value, Long::sum));
+
+        // 키마다 더한 값의 합과 꺼낸 값의 합이 같아야 한다
+        for (int key = 0; key < keys; key++) {
+            assertThat(drained.getOrDefault(key, 0L)).as("key %d", key).isEqualTo(expected[key]);
+        }
+        assertThat(buffer.snapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backend.petFacility.index;
+
+import com.example.backend.petFacility.entity.PetFacility;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인덱스는 이름순으로 정렬된 시설 목록을 받는다 (ordinal = 이름순 번호)
+class FacilityJamoIndexTest {
+
+    private final FacilityJamoIndex index = new FacilityJamoIndex(List.of(
+            facility("가나 카페", "서울특별시 강남구 강아지 마을길 3", null),  // 0: 주소에만 "강아지"
+            facility("강아지 놀이터", "경기도 성남시 분당구 정자로 1", null),   // 1
+            facility("고양이 호텔", null, "부산광역시 해운대구 우동 12"),       // 2
+            facility("우리 강아지 카페", "서울특별시 마포구 와우산로 5", null)  // 3
+    ));
+
+    @Test
+    void jamoDecomposition() {
+        assertThat(HangulJamo.toJamo("강아지")).isEqualTo("ㄱㅏㅇㅇㅏㅈㅣ");
+        assertThat(HangulJamo.toJamo("과")).isEqualTo("ㄱㅗㅏ");  // 겹모음은 두 글자로
+        assertThat(HangulJamo.toJamo("닭")).isEqualTo("ㄷㅏㄹㄱ"); // 겹받침도 두 글자로
+        assertThat(HangulJamo.toJamo("ㄺ")).isEqualTo("ㄹㄱ");    // 입력 중인 낱자도 같은 방식
+        assertThat(HangulJamo.toChosung("강아지 Cafe")).isEqualTo("ㄱㅇㅈ cafe");
+        assertThat(HangulJamo.isChosungQuery("ㄱㅇ ㅈ")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("ㄱㅇ지")).isFalse();
+    }
+
+    @Test
+    void withinOneEdit() {
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "abcd", 0)).isTrue();
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "abxd", 0)).isFalse();
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "abxd", 1)).isTrue();  // 치환
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "abd", 1)).isTrue();   // 삭제
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "abxcd", 1)).isTrue(); // 삽입
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "acbd", 1)).isTrue();  // 인접 교환
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "axyd", 1)).isFalse();
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "ab", 1)).isFalse();
+        assertThat(FacilityJamoIndex.withinOneEdit("abcd", "badc", 1)).isFalse();
+    }
+
+    @Test
+    void fuzzyFindsOneJamoTypos() {
+        // 치환 (ㅈ -> ㄷ)
+        assertThat(index.suggestFuzzy("강아디", 10)).containsExactly(1, 3, 0);
+        // 삭제: 연속된 ㅇㅇ 중 하나가 빠진 경우 (같은 글자 연속은 삭제 변형을 한 번만 색인)
+        assertThat(index.suggestFuzzy("가아지", 10)).containsExactly(1, 3, 0);
+        // 삽입 (받침 ㄴ 추가)
+        assertThat(index.suggestFuzzy("고양인", 10)).containsExactly(2);
+        // 자모 두 개가 다르면 찾지 않음
+        assertThat(index.suggestFuzzy("고앙인", 10)).isEmpty();
+    }
+
+    @Test
+    void fuzzyRanksNameMatchesBeforeAddressMatches() {
+        // 이름에 있는 시설(1, 3)이 이름순으로 먼저, 주소에만 있는 시설(0)은 그 뒤
+        assertThat(index.suggestFuzzy("강아지", 10)).containsExactly(1, 3, 0);
+        assertThat(index.suggestFuzzy("강아지", 2)).containsExactly(1, 3);
+    }
+
+    @Test
+    void fuzzyRequiresEveryWord() {
+        assertThat(index.suggestFuzzy("강아지 놀이타", 10)).containsExactly(1);
+        assertThat(index.suggestFuzzy("강아지 호텔", 10)).isEmpty();
+    }
+
+    @Test
+    void shortWordsMatchExactlyOnly() {
+        // 4자모 이상은 오타 허용 ("우동" = ㅇㅜㄷㅗㅇ, 받침 하나 빠진 "우도")
+        assertThat(index.suggestFuzzy("우도", 10)).containsExactly(2);
+        // 3자모 이하는 완전히 같은 단어만 ("가" = ㄱㅏ, "가나" = ㄱㅏㄴㅏ와 한 글자 차이지만 찾지 않음)
+        assertThat(index.suggestFuzzy("가", 10)).isEmpty();
+        assertThat(index.suggestFuzzy("가나", 10)).containsExactly(0);
+    }
+
+    @Test
+    void chosungRanksNamePrefixThenNameContainsThenAddress() {
+        // 이름이 ㄱㅇㅈ로 시작(1) > 이름 중간에 ㄱㅇㅈ(3) > 주소 단어가 ㄱㅇㅈ로 시작(0)
+        assertThat(index.suggestChosung("ㄱㅇㅈ", 10)).containsExactly(1, 3, 0);
+        assertThat(index.suggestChosung("ㄱㅇ", 10)).containsExactly(1, 2, 3, 0);
+        assertThat(index.suggestChosung("ㅎㅇㄷ", 10)).containsExactly(2);
+        assertThat(index.suggestChosung("ㅋㅋ", 10)).isEmpty();
+    }
+
+    private static PetFacility facility(String name, String roadAddress, String jibunAddress) {
+        PetFacility facility = new PetFacility();
+        facility.setName(name);
+        facility.setRoadAddress(roadAddress);
+        facility.setJibunAddress(jibunAddress);
+        return facility;
+    }
+}
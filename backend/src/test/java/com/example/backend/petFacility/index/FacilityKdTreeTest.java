@@ -0,0 +1,146 @@
+package com.example.backend.petFacility.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacilityKdTreeTest {
+
+    @Test
+    void nearestMatchesBruteForceInKorea() {
+        Random random = new Random(42);
+        double[] lats = new double[3000];
+        double[] lngs = new double[3000];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = 33 + random.nextDouble() * 5.5;
+            lngs[i] = 124.5 + random.nextDouble() * 7;
+        }
+        FacilityKdTree tree = new FacilityKdTree(lats, lngs);
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 33 + random.nextDouble() * 5.5;
+            double lng = 124.5 + random.nextDouble() * 7;
+            assertNearestMatches(tree, lats, lngs, lat, lng, 20, Double.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void nearestMatchesBruteForceAtHighLatitudesAndAcrossDateLine() {
+        // 경선이 모이는 고위도, 날짜변경선 부근처럼 위도/경도 상자 거리가 실제 거리와 크게 다른 곳
+        Random random = new Random(7);
+        double[] lats = new double[4000];
+        double[] lngs = new double[4000];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = random.nextBoolean() ? 60 + random.nextDouble() * 29 : -89 + random.nextDouble() * 178;
+            lngs[i] = -180 + random.nextDouble() * 360;
+        }
+        FacilityKdTree tree = new FacilityKdTree(lats, lngs);
+
+        for (int q = 0; q < 300; q++) {
+            double lat = q % 2 == 0 ? 70 + random.nextDouble() * 19 : -89 + random.nextDouble() * 178;
+            double lng = q % 3 == 0 ? 179 + random.nextDouble() : -180 + random.nextDouble() * 360;
+            assertNearestMatches(tree, lats, lngs, lat, lng, 30, Double.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void boxDistanceIsLowerBoundForEveryPointInBox() {
+        // 예: 기준점 (60, 0), 상자 위도 60~89 / 경도 40~50이면 상자 안 (70, 40)이 기준점을 옮긴 (60, 40)보다 가깝다
+        assertThat(FacilityKdTree.minDistanceMeters(60, 0, 60, 89, 40, 50))
+                .isLessThanOrEqualTo(FacilityKdTree.haversineMeters(60, 0, 70, 40));
+
+        Random random = new Random(11);
+        for (int q = 0; q < 20000; q++) {
+            double lat = -90 + random.nextDouble() * 180;
+            double lng = -180 + random.nextDouble() * 360;
+            double minLat = -90 + random.nextDouble() * 180;
+            double maxLat = minLat + random.nextDouble() * (90 - minLat);
+            double minLng = -180 + random.nextDouble() * 360;
+            double maxLng = minLng + random.nextDouble() * (180 - minLng);
+            double bound = FacilityKdTree.minDistanceMeters(lat, lng, minLat, maxLat, minLng, maxLng);
+            for (int p = 0; p < 10; p++) {
+                double pointLat = minLat + random.nextDouble() * (maxLat - minLat);
+                double pointLng = minLng + random.nextDouble() * (maxLng - minLng);
+                assertThat(bound).isLessThanOrEqualTo(
+                        FacilityKdTree.haversineMeters(lat, lng, pointLat, pointLng) + 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void nearestStopsAtMaxDistance() {
+        Random random = new Random(1);
+        double[] lats = new double[2000];
+        double[] lngs = new double[2000];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = 37.4 + random.nextDouble() * 0.3;
+            lngs[i] = 126.8 + random.nextDouble() * 0.4;
+        }
+        FacilityKdTree tree = new FacilityKdTree(lats, lngs);
+
+        assertNearestMatches(tree, lats, lngs, 37.55, 127.0, lats.length, 1000);
+    }
+
+    @Test
+    void rangeMatchesBruteForce() {
+        Random random = new Random(3);
+        double[] lats = new double[3000];
+        double[] lngs = new double[3000];
+        for (int i = 0; i < lats.length; i++) {
+            lats[i] = 33 + random.nextDouble() * 5.5;
+            lngs[i] = 124.5 + random.nextDouble() * 7;
+        }
+        FacilityKdTree tree = new FacilityKdTree(lats, lngs);
+
+        for (int q = 0; q < 100; q++) {
+            double minLat = 33 + random.nextDouble() * 5;
+            double minLng = 124.5 + random.nextDouble() * 6;
+            double maxLat = minLat + random.nextDouble();
+            double maxLng = minLng + random.nextDouble();
+
+            Set<Integer> found = new HashSet<>();
+            tree.range(minLat, maxLat, minLng, maxLng, found::add);
+
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < lats.length; i++) {
+                if (lats[i] >= minLat && lats[i] <= maxLat && lngs[i] >= minLng && lngs[i] <= maxLng) {
+                    expected.add(i);
+                }
+            }
+            assertThat(found).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void emptyTree() {
+        FacilityKdTree tree = new FacilityKdTree(new double[0], new double[0]);
+        List<Integer> found = new ArrayList<>();
+        tree.nearest(37.5, 127.0, Double.MAX_VALUE, (ordinal, distance) -> found.add(ordinal));
+        tree.range(-90, 90, -180, 180, found::add);
+        assertThat(found).isEmpty();
+    }
+
+    // 트리가 돌려준 순서의 거리가 전체를 거리순으로 정렬한 앞부분과 같아야 한다 (같은 거리끼리는 순서 무관)
+    private static void assertNearestMatches(FacilityKdTree tree, double[] lats, double[] lngs,
+                                             double lat, double lng, int k, double maxDistance) {
+        List<Double> found = new ArrayList<>();
+        tree.nearest(lat, lng, maxDistance, (ordinal, distance) -> {
+            assertThat(distance).isEqualTo(FacilityKdTree.haversineMeters(lat, lng, lats[ordinal], lngs[ordinal]));
+            found.add(distance);
+            return found.size() < k;
+        });
+
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < lats.length; i++) {
+            double distance = FacilityKdTree.haversineMeters(lat, lng, lats[i], lngs[i]);
+            if (distance <= maxDistance) {
+                expected.add(distance);
+            }
+        }
+        Collections.sort(expected);
+        assertThat(found).as("query %f,%f", lat, lng)
+                .isEqualTo(expected.subList(0, Math.min(k, expected.size())));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.petFacility.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanHolidaysTest {
+
+    @Test
+    void substituteHolidays() {
+        // 정부 발표 대체공휴일
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2025, 3, 3))).isTrue();   // 삼일절(토)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2025, 5, 6))).isTrue();   // 어린이날·부처님오신날 겹침
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2025, 10, 8))).isTrue();  // 추석 연휴 일요일
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 3, 2))).isTrue();   // 삼일절(일)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 5, 25))).isTrue();  // 부처님오신날(일)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 8, 17))).isTrue();  // 광복절(토)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 10, 5))).isTrue();  // 개천절(토)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2027, 2, 9))).isTrue();   // 설날 당일(일)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2027, 10, 11))).isTrue(); // 한글날(토)
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2027, 12, 27))).isTrue(); // 성탄절(토)
+    }
+
+    @Test
+    void noSubstituteForSaturdayInLunarHolidaysOrMemorialDay() {
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 9, 28))).isFalse(); // 추석 연휴 토요일은 대체 없음
+        assertThat(KoreanHolidays.isPublicHoliday(LocalDate.of(2026, 6, 8))).isFalse();  // 현충일(토)
+    }
+
+    @Test
+    void lunarHolidays() {
+        assertThat(KoreanHolidays.isLunarNewYearOrChuseok(LocalDate.of(2026, 2, 16), false)).isTrue();
+        assertThat(KoreanHolidays.isLunarNewYearOrChuseok(LocalDate.of(2026, 2, 16), true)).isFalse();
+        assertThat(KoreanHolidays.isLunarNewYearOrChuseok(LocalDate.of(2026, 2, 17), true)).isTrue();
+        assertThat(KoreanHolidays.isLunarNewYearOrChuseok(LocalDate.of(2026, 2, 19), false)).isFalse();
+    }
+}
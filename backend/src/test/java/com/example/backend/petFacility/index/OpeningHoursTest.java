@@ -0,0 +1,131 @@
+package com.example.backend.petFacility.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2026년 6월: 1일이 월요일, 6일(토)은 현충일이라 피해서 날짜를 고른다
+class OpeningHoursTest {
+
+    private static LocalDateTime at(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    @Test
+    void unknownHoursAreNotParsed() {
+        assertThat(OpeningHours.parse("정보없음", null)).isNull();
+        assertThat(OpeningHours.parse(null, "매주 월요일")).isNull();
+    }
+
+    @Test
+    void weekdayRanges() {
+        OpeningHours hours = OpeningHours.parse("월~금 09:00~19:00, 토 09:00~14:00", "매주 일요일");
+
+        assertThat(hours.isOpenAt(at(2026, 6, 10, 9, 0))).isTrue();   // 수 09:00
+        assertThat(hours.isOpenAt(at(2026, 6, 10, 18, 55))).isTrue();
+        assertThat(hours.isOpenAt(at(2026, 6, 10, 19, 0))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 6, 13, 13, 0))).isTrue();  // 토
+        assertThat(hours.isOpenAt(at(2026, 6, 13, 15, 0))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 6, 14, 12, 0))).isFalse(); // 일
+    }
+
+    @Test
+    void overnightRangeContinuesIntoNextDay() {
+        OpeningHours hours = OpeningHours.parse("월~금 11:00~01:00", null);
+
+        assertThat(hours.isOpenAt(at(2026, 6, 12, 23, 0))).isTrue();  // 금 23:00
+        assertThat(hours.isOpenAt(at(2026, 6, 13, 0, 30))).isTrue();  // 토 00:30 (금요일 영업)
+        assertThat(hours.isOpenAt(at(2026, 6, 13, 1, 30))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 6, 13, 12, 0))).isFalse(); // 토요일은 영업 안 함
+        assertThat(hours.isOpenAt(at(2026, 6, 15, 0, 30))).isFalse(); // 월 00:30 (일요일 영업 없음)
+        assertThat(hours.isOpenAt(at(2026, 6, 9, 0, 30))).isTrue();   // 화 00:30 (월요일 영업)
+    }
+
+    @Test
+    void closureAppliesToTheDayTheRangeStarts() {
+        OpeningHours hours = OpeningHours.parse("매일 18:00~02:00", "매주 일요일");
+
+        assertThat(hours.isOpenAt(at(2026, 6, 14, 1, 0))).isTrue();   // 일 01:00은 토요일 영업
+        assertThat(hours.isOpenAt(at(2026, 6, 14, 19, 0))).isFalse(); // 일요일 휴무
+        assertThat(hours.isOpenAt(at(2026, 6, 15, 1, 0))).isFalse();  // 월 01:00은 일요일 영업 (휴무)
+        assertThat(hours.isOpenAt(at(2026, 6, 15, 19, 0))).isTrue();
+    }
+
+    @Test
+    void nthWeekdayClosure() {
+        OpeningHours hours = OpeningHours.parse("매일 10:00~20:00", "2, 4째주 일요일");
+
+        assertThat(hours.isOpenAt(at(2026, 6, 7, 12, 0))).isTrue();   // 첫째 일요일
+        assertThat(hours.isOpenAt(at(2026, 6, 14, 12, 0))).isFalse(); // 둘째
+        assertThat(hours.isOpenAt(at(2026, 6, 21, 12, 0))).isTrue();  // 셋째
+        assertThat(hours.isOpenAt(at(2026, 6, 28, 12, 0))).isFalse(); // 넷째
+    }
+
+    @Test
+    void ordinalWordsAndLastWeekClosure() {
+        OpeningHours second = OpeningHours.parse("매일 10:00~20:00", "매월 둘째 주 화요일");
+        assertThat(second.isOpenAt(at(2026, 6, 9, 12, 0))).isFalse();
+        assertThat(second.isOpenAt(at(2026, 6, 16, 12, 0))).isTrue();
+
+        OpeningHours last = OpeningHours.parse("매일 10:00~20:00", "마지막 주 수요일");
+        assertThat(last.isOpenAt(at(2026, 6, 17, 12, 0))).isTrue();
+        assertThat(last.isOpenAt(at(2026, 6, 24, 12, 0))).isFalse();  // 6월 마지막 수요일
+        assertThat(last.isOpenAt(at(2026, 7, 29, 12, 0))).isFalse();  // 7월 마지막 수요일 (다섯째 주)
+    }
+
+    @Test
+    void lunarNewYearAndChuseokDayOnly() {
+        OpeningHours hours = OpeningHours.parse("매일 10:00~20:00", "1월1일, 설, 추석 당일, 매주 월요일");
+
+        assertThat(hours.isOpenAt(at(2026, 2, 17, 12, 0))).isFalse(); // 설날 당일
+        assertThat(hours.isOpenAt(at(2026, 2, 18, 12, 0))).isTrue();  // 연휴 다음 날은 영업
+        assertThat(hours.isOpenAt(at(2026, 9, 25, 12, 0))).isFalse(); // 추석 당일
+        assertThat(hours.isOpenAt(at(2027, 1, 1, 12, 0))).isFalse();  // 1월1일
+        assertThat(hours.isOpenAt(at(2026, 6, 15, 12, 0))).isFalse(); // 월요일
+    }
+
+    @Test
+    void lunarNewYearAndChuseokHolidays() {
+        OpeningHours hours = OpeningHours.parse("매일 10:00~20:00", "설, 추석 연휴");
+
+        assertThat(hours.isOpenAt(at(2026, 9, 24, 12, 0))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 9, 25, 12, 0))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 9, 26, 12, 0))).isFalse();
+        assertThat(hours.isOpenAt(at(2026, 9, 27, 12, 0))).isTrue();
+    }
+
+    @Test
+    void closedOnPublicHolidaysIncludingSubstitutes() {
+        OpeningHours hours = OpeningHours.parse("매일 10:00~20:00", "매주 일요일, 법정공휴일");
+
+        assertThat(hours.isOpenAt(at(2025, 5, 6, 12, 0))).isFalse();  // 어린이날·부처님오신날 대체공휴일
+        assertThat(hours.isOpenAt(at(2025, 5, 7, 12, 0))).isTrue();
+        assertThat(hours.isOpenAt(at(2025, 10, 8, 12, 0))).isFalse(); // 추석 대체공휴일
+        assertThat(hours.isOpenAt(at(2026, 8, 17, 12, 0))).isFalse(); // 광복절 대체공휴일
+    }
+
+    @Test
+    void publicHolidayHoursReplaceWeekdayHours() {
+        OpeningHours hours = OpeningHours.parse(
+                "월~수, 금 09:00~20:00, 목 09:00~20:30, 토 09:00~15:30, 일 09:00~13:30, 법정공휴일 10:00~16:00", null);
+
+        assertThat(hours.isOpenAt(at(2026, 10, 12, 9, 30))).isTrue();  // 평범한 월요일
+        assertThat(hours.isOpenAt(at(2026, 10, 12, 18, 0))).isTrue();
+        assertThat(hours.isOpenAt(at(2026, 10, 5, 9, 30))).isFalse();  // 개천절 대체공휴일(월)
+        assertThat(hours.isOpenAt(at(2026, 10, 5, 15, 30))).isTrue();
+        assertThat(hours.isOpenAt(at(2026, 10, 5, 18, 0))).isFalse();
+    }
+
+    @Test
+    void overnightPublicHolidayHours() {
+        OpeningHours hours = OpeningHours.parse(
+                "월~금 11:00~01:00, 토 13:00~01:00, 일 19:00~01:00, 법정공휴일 19:00~01:00", null);
+
+        assertThat(hours.isOpenAt(at(2026, 8, 17, 12, 0))).isFalse();  // 대체공휴일(월) 낮
+        assertThat(hours.isOpenAt(at(2026, 8, 17, 20, 0))).isTrue();
+        assertThat(hours.isOpenAt(at(2026, 8, 18, 0, 30))).isTrue();   // 공휴일에 시작한 영업이 자정을 넘김
+        assertThat(hours.isOpenAt(at(2026, 8, 18, 12, 0))).isTrue();   // 화요일은 평소대로
+    }
+}
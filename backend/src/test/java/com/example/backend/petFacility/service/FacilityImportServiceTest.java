@@ -0,0 +1,164 @@
+package com.example.backend.petFacility.service;
+
+import com.example.backend.petFacility.dto.FacilitySyncResultDto;
+import com.example.backend.petFacility.entity.PetFacility;
+import com.example.backend.petFacility.index.FacilitySnapshot;
+import com.example.backend.petFacility.index.PetSizeClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FacilityImportServiceTest {
+
+    private static final String HEADER = "시설명,시도 명칭,시군구 명칭,위도,경도\n";
+
+    private JdbcTemplate jdbcTemplate;
+    private PetFacilityIndexService indexService;
+    private FacilityImportService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        indexService = mock(PetFacilityIndexService.class);
+        service = new FacilityImportService(jdbcTemplate, mock(PlatformTransactionManager.class), indexService);
+
+        when(indexService.getSnapshot()).thenReturn(FacilitySnapshot.of(List.of(
+                facility(1L, "가나카페", 37.5, 127.0),
+                facility(2L, "다라공원", 37.6, 127.1),
+                facility(3L, "리뷰있는곳", 37.7, 127.2),
+                facility(4L, "즐겨찾기된곳", 37.8, 127.3),
+                facility(5L, "없어진곳", 37.9, 127.4)
+        ), PetSizeClassifier.defaults()));
+        when(jdbcTemplate.queryForList("SELECT DISTINCT facility_id FROM review", Long.class))
+                .thenReturn(List.of(3L));
+        when(jdbcTemplate.queryForList("SELECT DISTINCT facility_id FROM favorite", Long.class))
+                .thenReturn(List.of(3L, 4L));
+    }
+
+    @Test
+    void syncDryRunClassifiesRows() throws Exception {
+        String csv = HEADER
+                + "가나카페,서울특별시,강남구,37.5,127.0\n"   // 그대로
+                + "다라공원,서울특별시,강남구,37.65,127.1\n"  // 좌표만 바뀜 -> 수정
+                + "새로운곳,서울특별시,강남구,37.55,127.05\n" // 추가
+                + "좌표없음,서울특별시,강남구,,\n";           // 오류
+
+        FacilitySyncResultDto result = service.syncCsv(input(csv), null, true);
+
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        // 파일에 없는 시설: 리뷰 있음 -> 유지, 즐겨찾기만 있음 -> 유지, 나머지 -> 삭제
+        assertThat(result.getKeptReferenced()).isEqualTo(1);
+        assertThat(result.getKeptFavorited()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.isDeletesSkipped()).isFalse();
+        assertThat(result.getChangedIds()).containsExactlyInAnyOrder(2L, 5L);
+
+        // 미리보기는 DB와 인덱스를 바꾸지 않는다
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(indexService, never()).applyChanges(any(), any());
+    }
+
+    @Test
+    void syncPairsRowsWithSameKeyBeforeInserting() throws Exception {
+        // 같은 시설명 + 시도 + 시군구: 내용이 달라도 기존 시설 수정으로 짝짓고, 남는 행만 추가
+        String csv = HEADER
+                + "가나카페,서울특별시,강남구,37.51,127.0\n"
+                + "가나카페,서울특별시,강남구,37.52,127.0\n"
+                + "다라공원,서울특별시,강남구,37.6,127.1\n"
+                + "리뷰있는곳,서울특별시,강남구,37.7,127.2\n"
+                + "즐겨찾기된곳,서울특별시,강남구,37.8,127.3\n"
+                + "없어진곳,서울특별시,강남구,37.9,127.4\n";
+
+        FacilitySyncResultDto result = service.syncCsv(input(csv), null, true);
+
+        assertThat(result.getUnchanged()).isEqualTo(4);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getDeleted()).isZero();
+        assertThat(result.getChangedIds()).containsExactly(1L);
+    }
+
+    @Test
+    void syncSkipsDeletesWhenFileLooksTruncated() throws Exception {
+        // 기존 5건인데 파일은 1행 -> 잘린 파일로 보고 삭제하지 않음
+        String csv = HEADER + "가나카페,서울특별시,강남구,37.5,127.0\n";
+
+        FacilitySyncResultDto result = service.syncCsv(input(csv), null, true);
+
+        assertThat(result.isDeletesSkipped()).isTrue();
+        assertThat(result.getDeleted()).isZero();
+        assertThat(result.getKeptReferenced()).isZero();
+        assertThat(result.getKeptFavorited()).isZero();
+        assertThat(result.getUnchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void syncReadsCp949FileWithoutCharset() throws Exception {
+        String csv = HEADER
+                + "가나카페,서울특별시,강남구,37.5,127.0\n"
+                + "새로운곳,서울특별시,강남구,37.55,127.05\n";
+
+        FacilitySyncResultDto result = service.syncCsv(
+                new ByteArrayInputStream(csv.getBytes(Charset.forName("MS949"))), null, true);
+
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getInvalid()).isZero();
+    }
+
+    @Test
+    void detectCharsetPrefersBomThenRequestedThenSniffsUtf8() throws Exception {
+        byte[] utf8 = HEADER.getBytes(StandardCharsets.UTF_8);
+        byte[] bom = new byte[utf8.length + 3];
+        bom[0] = (byte) 0xEF;
+        bom[1] = (byte) 0xBB;
+        bom[2] = (byte) 0xBF;
+        System.arraycopy(utf8, 0, bom, 3, utf8.length);
+
+        // BOM은 지정한 charset보다 우선하고, 읽을 때 건너뛴다
+        BufferedInputStream withBom = new BufferedInputStream(new ByteArrayInputStream(bom));
+        assertThat(FacilityImportService.detectCharset(withBom, Charset.forName("MS949"))).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(new String(withBom.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(HEADER);
+
+        BufferedInputStream plain = new BufferedInputStream(new ByteArrayInputStream(utf8));
+        assertThat(FacilityImportService.detectCharset(plain, null)).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(plain.readAllBytes()).isEqualTo(utf8); // 판별용으로 읽은 바이트는 되돌려 둔다
+
+        BufferedInputStream requested = new BufferedInputStream(new ByteArrayInputStream(utf8));
+        assertThat(FacilityImportService.detectCharset(requested, StandardCharsets.ISO_8859_1)).isEqualTo(StandardCharsets.ISO_8859_1);
+
+        BufferedInputStream cp949 = new BufferedInputStream(new ByteArrayInputStream(HEADER.getBytes(Charset.forName("MS949"))));
+        assertThat(FacilityImportService.detectCharset(cp949, null)).isEqualTo(Charset.forName("MS949"));
+    }
+
+    private static PetFacility facility(Long id, String name, double lat, double lng) {
+        PetFacility facility = new PetFacility();
+        facility.setId(id);
+        facility.setName(name);
+        facility.setSidoName("서울특별시");
+        facility.setSigunguName("강남구");
+        facility.setLatitude(lat);
+        facility.setLongitude(lng);
+        return facility;
+    }
+
+    private static ByteArrayInputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
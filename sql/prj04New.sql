@@ -299,3 +299,69 @@ TRUNCATE TABLE support;
 DELETE
 FROM prj04.board
 WHERE id = 17;
+
+# ---------------------------------------------------------------------------------
+# 시설별 리뷰 집계 (리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증감, 매일 새벽 review 기준으로 재계산)
+CREATE TABLE facility_stats
+(
+    facility_id  BIGINT   NOT NULL,
+    review_count INT      NOT NULL DEFAULT 0,
+    rating_sum   INT      NOT NULL DEFAULT 0,
+    rating1      INT      NOT NULL DEFAULT 0,
+    rating2      INT      NOT NULL DEFAULT 0,
+    rating3      INT      NOT NULL DEFAULT 0,
+    rating4      INT      NOT NULL DEFAULT 0,
+    rating5      INT      NOT NULL DEFAULT 0,
+    updated_at   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (facility_id),
+    CONSTRAINT fk_facility_stats_facility FOREIGN KEY (facility_id) REFERENCES pet_facility (id) ON DELETE CASCADE
+);
+
+INSERT INTO facility_stats (facility_id, review_count, rating_sum, rating1, rating2, rating3, rating4, rating5)
+SELECT facility_id, COUNT(*), SUM(rating),
+       SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5)
+FROM review
+GROUP BY facility_id;
+
+# ---------------------------------------------------------------------------------
+# 회원별 리뷰 집계 (리뷰 목록의 작성자 리뷰 수/평균 평점 표시용, 리뷰 작성/수정/삭제 시 증감 + 매일 새벽 보정)
+CREATE TABLE member_review_stats
+(
+    member_id    BIGINT   NOT NULL,
+    review_count INT      NOT NULL DEFAULT 0,
+    rating_sum   INT      NOT NULL DEFAULT 0,
+    updated_at   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_member_review_stats_member FOREIGN KEY (member_id) REFERENCES member (id) ON DELETE CASCADE
+);
+
+INSERT INTO member_review_stats (member_id, review_count, rating_sum)
+SELECT m.id, COUNT(*), SUM(r.rating)
+FROM review r
+         JOIN member m ON r.member_email = m.email
+GROUP BY m.id;
+
+# ---------------------------------------------------------------------------------
+# 리뷰 좋아요 수 비정규화 (좋아요 수 증감은 메모리에 모았다가 주기적으로 반영 + 매일 새벽 review_like 기준 보정)
+# 시설별 "좋아요 많은 순" 목록을 review_like 집계 없이 인덱스 순서대로 읽기 위한 인덱스
+ALTER TABLE review
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+UPDATE review r
+SET r.like_count = (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.id);
+
+ALTER TABLE review
+    ADD INDEX idx_review_facility_likes (facility_id, like_count, inserted_at);
+
+# ---------------------------------------------------------------------------------
+# 게시글 좋아요 수 비정규화 (좋아요 수 증감은 메모리에 모았다가 주기적으로 반영, 목록 조회 시 board_like 집계 제거)
+ALTER TABLE board
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0;
+
+UPDATE board b
+SET b.like_count = (SELECT COUNT(*) FROM board_like bl WHERE bl.board_id = b.id);
+
+# ---------------------------------------------------------------------------------
+# 시설별 리뷰 최신순 키셋 페이지네이션 (/api/review/facility/{id}/cursor) - (inserted_at, id) 순서를 인덱스에서 바로 읽는다
+ALTER TABLE review
+    ADD INDEX idx_review_facility_date (facility_id, inserted_at);